@@ -0,0 +1,66 @@
+package com.example.security.config;
+
+import com.example.security.user.UserSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 한 요청의 인증 비용
+// 사용자 조회는 캐시 적중 상황을 가정하여 메모리에서 바로 반환
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtBenchmarkFixture.jwtService(stateless);
+        UserSnapshot user = JwtBenchmarkFixture.user();
+        filter = new JwtAuthenticationFilter(
+                jwtService,
+                username -> user,
+                new AuthenticationMetrics(new SimpleMeterRegistry(), 60_000)
+        );
+        authorization = "Bearer " + jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication doFilterInternal() throws ServletException, IOException {
+        // 요청마다 새 요청 객체 - 요청 attribute에 캐시된 토큰을 재사용하지 않도록
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/demo-controller");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.security.config;
+
+import com.example.security.token.AsyncTokenRemover;
+import com.example.security.token.BlackListRepository;
+import com.example.security.token.LoopbackRevocationEventBus;
+import com.example.security.token.RevocationIndex;
+import com.example.security.token.RevocationPropagator;
+import com.example.security.token.SigningKeyRepository;
+import com.example.security.token.TokenRepository;
+import com.example.security.token.TokenWatermarkRepository;
+import com.example.security.token.TokenWatermarks;
+import com.example.security.token.TokenWriteBehind;
+import com.example.security.user.Role;
+import com.example.security.user.User;
+import com.example.security.user.UserDetailsCache;
+import com.example.security.user.UserSnapshot;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// 벤치마크용 JwtService 구성
+// repository는 DB 대신 빈 결과를 돌려주는 메모리 stub 사용
+final class JwtBenchmarkFixture {
+
+    static final String SECRET_KEY = "d7e3c737696c3b9241bbde3fdfb664b515f36bb634da1afac2e45a85faef6c37";
+    static final long ACCESS_TOKEN_EXPIRATION = 300_000;
+    static final long REFRESH_TOKEN_EXPIRATION = 6_000_000;
+
+    private JwtBenchmarkFixture() {
+    }
+
+    static JwtService jwtService(boolean stateless) {
+        TokenRepository tokenRepository = stub(TokenRepository.class);
+        BlackListRepository blackListRepository = stub(BlackListRepository.class);
+
+        RevocationIndex revocationIndex = new RevocationIndex(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(revocationIndex, "windowMillis", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(revocationIndex, "expectedInsertions", 10_000);
+        ReflectionTestUtils.setField(revocationIndex, "falsePositiveRate", 0.01);
+
+        TokenWatermarks tokenWatermarks = new TokenWatermarks();
+        ReflectionTestUtils.setField(tokenWatermarks, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+
+        // 폐기 이벤트는 loopback, 기준 시각 저장은 사용하지 않으므로 JdbcTemplate 없음
+        RevocationPropagator revocationPropagator = new RevocationPropagator(
+                new LoopbackRevocationEventBus(),
+                revocationIndex,
+                tokenWatermarks,
+                blackListRepository,
+                stub(TokenWatermarkRepository.class),
+                new UserDetailsCache(new SimpleMeterRegistry(), 10_000, 300_000),
+                null
+        );
+        ReflectionTestUtils.setField(revocationPropagator, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+
+        // HS256 - 키를 DB에 저장하지 않음
+        SigningKeyRing signingKeyRing = new SigningKeyRing(stub(SigningKeyRepository.class));
+        ReflectionTestUtils.setField(signingKeyRing, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(signingKeyRing, "algorithm", SignatureAlgorithm.HS256);
+        ReflectionTestUtils.setField(signingKeyRing, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+        signingKeyRing.init();
+
+        JwtService jwtService = new JwtService(
+                tokenRepository,
+                blackListRepository,
+                revocationIndex,
+                tokenWatermarks,
+                revocationPropagator,
+                new AsyncTokenRemover(tokenRepository),
+                // write-behind 비활성 - 사용하지 않는 의존성은 null
+                new TokenWriteBehind(tokenRepository, blackListRepository, null),
+                signingKeyRing
+        );
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "statelessAuthentication", stateless);
+        jwtService.init();
+        return jwtService;
+    }
+
+    static UserSnapshot user() {
+        return UserSnapshot.from(User.builder()
+                .firstname("Bench")
+                .lastname("Mark")
+                .email("bench@mail.com")
+                // 필터 벤치마크에선 비밀번호를 확인하지 않음
+                .password("{noop}password")
+                .role(Role.ADMIN)
+                .build());
+    }
+
+    // 모든 메서드가 빈 결과를 돌려주는 repository stub
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    if (method.isDefault()) {
+                        return InvocationHandler.invokeDefault(proxy, method, args);
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == List.class) {
+                        return Collections.emptyList();
+                    }
+                    if (returnType == Optional.class) {
+                        return Optional.empty();
+                    }
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType == long.class) {
+                        return 0L;
+                    }
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (method.getName().equals("toString")) {
+                        return repositoryType.getSimpleName() + "Stub";
+                    }
+                    return null;
+                }
+        );
+    }
+}
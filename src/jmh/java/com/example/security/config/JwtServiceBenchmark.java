@@ -0,0 +1,71 @@
+package com.example.security.config;
+
+import com.example.security.user.UserSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtService 토큰 생성, parse, 검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    // stateless 모드에선 Access Token에 role, perm 클레임이 추가됨
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    private JwtService jwtService;
+    private UserSnapshot user;
+    private String accessToken;
+    private VerifiedToken verifiedToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtBenchmarkFixture.jwtService(stateless);
+        user = JwtBenchmarkFixture.user();
+        accessToken = jwtService.generateAccessToken(user);
+        verifiedToken = jwtService.verify(accessToken);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken(user);
+    }
+
+    // 서명 검증 + 클레임 추출 (extractAllClaims)
+    @Benchmark
+    public VerifiedToken parseClaims() {
+        return jwtService.verify(accessToken);
+    }
+
+    // parse부터 폐기 여부 확인까지
+    @Benchmark
+    public boolean isAccessTokenValid() {
+        return jwtService.isAccessTokenValid(accessToken, user);
+    }
+
+    // 이미 parse한 토큰의 검증 - digest 계산과 폐기 인덱스 조회
+    @Benchmark
+    public boolean isVerifiedAccessTokenValid() {
+        return jwtService.isAccessTokenValid(verifiedToken, user);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.security.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청 수 제한 확인 비용 - PasswordEncoderBenchmark의 BCrypt 한 번과 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int KEYS = 10_000;
+
+    // 한도에 걸리지 않도록 충분히 큰 capacity
+    private final RateLimitPolicy policy = new RateLimitPolicy(1_000_000_000, 1_000);
+
+    private LocalRateLimitStore store;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        store = new LocalRateLimitStore(100_000, Duration.ofMinutes(10));
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "authenticate:ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    // 모든 thread가 같은 버킷 사용 - CAS 경합이 가장 큰 경우
+    @Benchmark
+    @Threads(4)
+    public long sameKeyContended() {
+        return store.tryAcquire(keys[0], policy);
+    }
+
+    // 여러 클라이언트에 고르게 분산된 경우
+    @Benchmark
+    @Threads(4)
+    public long distinctKeys() {
+        return store.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)], policy);
+    }
+
+    // 한도를 넘어 거절되는 경우
+    @Benchmark
+    public long rejected(RejectedState state) {
+        return state.store.tryAcquire("authenticate:email:flood@mail.com", state.policy);
+    }
+
+    @State(Scope.Benchmark)
+    public static class RejectedState {
+
+        private final RateLimitPolicy policy = new RateLimitPolicy(1, 3_600_000);
+        private LocalRateLimitStore store;
+
+        @Setup
+        public void setUp() {
+            store = new LocalRateLimitStore(100, Duration.ofHours(2));
+            store.tryAcquire("authenticate:email:flood@mail.com", policy);
+        }
+    }
+}
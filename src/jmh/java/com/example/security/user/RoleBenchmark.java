@@ -0,0 +1,39 @@
+package com.example.security.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Role 권한 목록 조회 비용 - 요청마다 필터에서 호출
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleBenchmark {
+
+    @Param({"USER", "MANAGER", "ADMIN"})
+    private Role role;
+
+    @Benchmark
+    public List<SimpleGrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean hasPermission() {
+        return role.hasPermission(Permission.MANAGER_READ);
+    }
+}
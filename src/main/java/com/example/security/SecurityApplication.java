@@ -7,8 +7,12 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync
 public class SecurityApplication {
 
 	public static void main(String[] args) {
@@ -19,24 +23,27 @@ public class SecurityApplication {
 	public CommandLineRunner commandLineRunner(
 			AuthenticationService service
 	) {
-		return args -> {
-			var admin = RegisterRequest.builder()
-					.firstname("Admin")
-					.lastname("Admin")
-					.email("admin@mail.com")
-					.password("password")
-					.role(Role.ADMIN)
-					.build();
-			System.out.println("Admin token: " + service.register(admin).getBody().getAccessToken());
+		// 실패하면 예외가 그대로 전달되어 기동이 중단됨
+		return args -> seedUsers(service);
+	}
+
+	private static void seedUsers(AuthenticationService service) {
+		var admin = RegisterRequest.builder()
+				.firstname("Admin")
+				.lastname("Admin")
+				.email("admin@mail.com")
+				.password("password")
+				.role(Role.ADMIN)
+				.build();
+		System.out.println("Admin token: " + service.register(admin).getBody().getAccessToken());
 
-			var manager = RegisterRequest.builder()
-					.firstname("Manager")
-					.lastname("managerager")
-					.email("manager@mail.com")
-					.password("password")
-					.role(Role.MANAGER)
-					.build();
-			System.out.println("Manager token: " + service.register(manager).getBody().getAccessToken());
-		};
+		var manager = RegisterRequest.builder()
+				.firstname("Manager")
+				.lastname("managerager")
+				.email("manager@mail.com")
+				.password("password")
+				.role(Role.MANAGER)
+				.build();
+		System.out.println("Manager token: " + service.register(manager).getBody().getAccessToken());
 	}
 }
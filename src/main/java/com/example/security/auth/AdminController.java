@@ -7,30 +7,30 @@ import org.springframework.web.bind.annotation.*;
 // ADMIN만 접근 가능
 @RestController
 @RequestMapping("/api/v1/admin")
-@PreAuthorize("hasRole('ADMIN')") // ADMIN만 접근 가능
+@PreAuthorize("@authz.hasRole(authentication, 'ADMIN')") // ADMIN만 접근 가능
 @RequiredArgsConstructor
 public class AdminController {
 
     @GetMapping
-    @PreAuthorize("hasAuthority('admin:read')")
+    @PreAuthorize("@authz.has(authentication, 'ADMIN_READ')")
     public String get() {
         return "GET:: admin controller";
     }
 
     @PostMapping
-    @PreAuthorize("hasAuthority('admin:create')")
+    @PreAuthorize("@authz.has(authentication, 'ADMIN_CREATE')")
     public String post() {
         return "POST:: admin controller";
     }
 
     @PutMapping
-    @PreAuthorize("hasAuthority('admin:update')")
+    @PreAuthorize("@authz.has(authentication, 'ADMIN_UPDATE')")
     public String put() {
         return "PUT:: admin controller";
     }
 
     @DeleteMapping
-    @PreAuthorize("hasAuthority('admin:delete')")
+    @PreAuthorize("@authz.has(authentication, 'ADMIN_DELETE')")
     public String delete() {
         return "DELETE:: admin controller";
     }
@@ -1,7 +1,10 @@
 package com.example.security.auth;
 
+import com.example.security.config.RateLimiter;
+import com.example.security.config.RateLimiter.Endpoint;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -9,25 +12,32 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
 public class AuthenticationController {
 
     private final AuthenticationService service;
+    // 요청 수 제한 - 해싱, DB 조회 전에 확인
+    private final RateLimiter rateLimiter;
 
     // 회원가입
     @PostMapping("/register")
     public ResponseEntity<AuthenticationResponse> register (
-      @RequestBody RegisterRequest request
+      @RequestBody RegisterRequest request,
+      HttpServletRequest httpRequest
     ) {
+        rateLimiter.check(Endpoint.REGISTER, httpRequest.getRemoteAddr(), request.getEmail());
         return service.register(request);
     }
 
     // 인증
     @PostMapping("/authenticate")
     public ResponseEntity<AuthenticationResponse> authenticate (
-            @RequestBody AuthenticationRequest request
+            @RequestBody AuthenticationRequest request,
+            HttpServletRequest httpRequest
     ) {
+        rateLimiter.check(Endpoint.AUTHENTICATE, httpRequest.getRemoteAddr(), request.getEmail());
         return service.authenticate(request);
     }
 
@@ -36,6 +46,8 @@ public class AuthenticationController {
     public ResponseEntity<AuthenticationResponse> refreshToken (
         HttpServletRequest request
     ) {
+        // Refresh Token은 한 번만 사용 가능하므로 IP 기준으로만 제한
+        rateLimiter.check(Endpoint.REFRESH_TOKEN, request.getRemoteAddr(), null);
         return service.refreshToken(request);
     }
 }
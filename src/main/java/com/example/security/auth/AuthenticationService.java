@@ -1,6 +1,9 @@
 package com.example.security.auth;
 
+import com.example.security.config.AuthenticationMetrics;
+import com.example.security.config.AuthenticationMetrics.Stage;
 import com.example.security.config.JwtService;
+import com.example.security.config.VerifiedToken;
 import com.example.security.user.Role;
 import com.example.security.user.User;
 import com.example.security.user.UserRepository;
@@ -15,10 +18,13 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -32,28 +38,40 @@ public class AuthenticationService {
     private final JwtService jwtService;
     // 사용자 신원 확인
     private final AuthenticationManager authenticationManager;
+    // 사용자 정보 조회 - 캐시 사용
+    private final UserDetailsService userDetailsService;
+    // 단계별 소요 시간
+    private final AuthenticationMetrics metrics;
 
     // 회원가입
     @Transactional
     public ResponseEntity<AuthenticationResponse> register(RegisterRequest request) {
+        // 비밀번호 해싱
+        long start = System.nanoTime();
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        start = metrics.record(Stage.REGISTER_HASH, start);
+
         // 요청으로부터 온 데이터로 사용자 객체 생성
         var user = User.builder()
                 .firstname(request.getFirstname())
                 .lastname(request.getLastname())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .role(request.getRole()) // 동적 할당
                 .build();
 
         // 사용자 저장
         repository.save(user);
+        start = metrics.record(Stage.REGISTER_DB, start);
 
         // 토큰 생성 - 사용자 정보로 생성
         var accessToken = jwtService.generateAccessToken(user);
         var refreshToken = jwtService.generateRefreshToken(user);
+        start = metrics.record(Stage.REGISTER_SIGN, start);
 
         // 토큰을 db에 저장
         jwtService.saveUserToken(refreshToken, user);
+        metrics.record(Stage.REGISTER_PERSIST, start);
 
         // cookie 생성
         HttpHeaders header = setCookieHeader(refreshToken);
@@ -71,7 +89,8 @@ public class AuthenticationService {
     public ResponseEntity<AuthenticationResponse> authenticate(
             AuthenticationRequest request
     ) {
-        // 요청으로 들어온 사용자의 신원 확인
+        // 요청으로 들어온 사용자의 신원 확인 - 비밀번호 비교
+        long start = System.nanoTime();
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
@@ -79,18 +98,22 @@ public class AuthenticationService {
                 )
         );
         // 위의 인증을 거친 사용자를 DB에 검색
+        start = metrics.record(Stage.AUTHENTICATE_CREDENTIALS, start);
         var user = repository.findByEmail(request.getEmail())
                 .orElseThrow();
+        start = metrics.record(Stage.AUTHENTICATE_DB, start);
 
         // 토큰 생성 - 사용자 정보로 생성
         var accessToken = jwtService.generateAccessToken(user);
         var refreshToken = jwtService.generateRefreshToken(user);
+        start = metrics.record(Stage.AUTHENTICATE_SIGN, start);
 
         // 기존에 db에 저장된 사용자의 모든 Refresh Token 제거
         jwtService.removeAllUserToken(user);
 
         // 토큰을 db에 저장
         jwtService.saveUserToken(refreshToken, user);
+        metrics.record(Stage.AUTHENTICATE_PERSIST, start);
 
         // cookie 생성
         HttpHeaders header = setCookieHeader(refreshToken);
@@ -132,38 +155,57 @@ public class AuthenticationService {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
+        // jwt 검증 - 요청당 한 번만 parse
+        long start = System.nanoTime();
+        VerifiedToken verifiedToken = jwtService.verify(request, token);
+        return rotateRefreshToken(verifiedToken, metrics.record(Stage.REFRESH_PARSE, start));
+    }
+
+    // Access Token 재발급 - cookie에서 꺼낸 Refresh Token 사용
+    // reactive 컨트롤러에서 사용
+    @Transactional
+    public ResponseEntity<AuthenticationResponse> refreshToken(String token) {
+        long start = System.nanoTime();
+        VerifiedToken verifiedToken = jwtService.verify(token);
+        return rotateRefreshToken(verifiedToken, metrics.record(Stage.REFRESH_PARSE, start));
+    }
+
+    // Access Token 재발급 - 검증된 Refresh Token 사용
+    // 기존 토큰 사용 처리(조건부 update)와 새 토큰 저장(insert)만 DB에 실행
+    private ResponseEntity<AuthenticationResponse> rotateRefreshToken(VerifiedToken verifiedToken, long start) {
         // jwt로부터 사용자 이메일을 추출
-        String userEmail = jwtService.extractUsername(token);
+        String userEmail = verifiedToken.getSubject();
 
         // 검증 절차
-        // 사용자 존재 여부
-        User user = repository.findByEmail(userEmail)
-                .orElseThrow(()->new UsernameNotFoundException("No user found"));
-
-        // Refresh Token 유효성 검사
-        if (jwtService.isRefreshTokenValid(token, user)) {
-            // 유효할 경우 재발급 진행
-            String accessToken = jwtService.generateAccessToken(user);
-            String refreshToken = jwtService.generateRefreshToken(user);
+        // 사용자 존재 여부 - 캐시된 사용자 정보 사용
+        UserDetails user = userDetailsService.loadUserByUsername(userEmail);
 
-            // 기존에 db에 저장된 Refresh Token 제거
-            jwtService.removeUserToken(token, user);
+        // Refresh Token 사용 처리 - 동시 재발급 중 하나만 성공
+        JwtService.RefreshResult result = jwtService.consumeRefreshToken(verifiedToken, user);
+        start = metrics.record(Stage.REFRESH_DB, start);
+        if (result != JwtService.RefreshResult.CONSUMED) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
 
-            // 토큰을 db에 저장
-            jwtService.saveUserToken(refreshToken, user);
+        // 유효할 경우 재발급 진행 - 같은 family 유지
+        UUID familyId = jwtService.familyOf(verifiedToken);
+        String accessToken = jwtService.generateAccessToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user, familyId);
+        start = metrics.record(Stage.REFRESH_SIGN, start);
 
-            // cookie 생성
-            HttpHeaders header = setCookieHeader(refreshToken);
+        // 토큰을 db에 저장
+        jwtService.saveUserToken(refreshToken, userEmail, familyId);
+        metrics.record(Stage.REFRESH_PERSIST, start);
 
-            // 인증 응답 객체 생성
-            AuthenticationResponse response = AuthenticationResponse.builder()
-                    .accessToken(accessToken)
-                    .build();
+        // cookie 생성
+        HttpHeaders header = setCookieHeader(refreshToken);
 
-            return new ResponseEntity<>(response, header, HttpStatus.OK);
-        }
+        // 인증 응답 객체 생성
+        AuthenticationResponse response = AuthenticationResponse.builder()
+                .accessToken(accessToken)
+                .build();
 
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        return new ResponseEntity<>(response, header, HttpStatus.OK);
     }
 
     // cookie 설정
@@ -0,0 +1,33 @@
+package com.example.security.auth;
+
+import com.example.security.config.SigningKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+// jwt 검증용 공개 키 (JWKS)
+// 다른 서비스가 이 목록을 캐시해 두고 kid로 키를 찾아 직접 토큰을 검증
+// servlet, reactive 모두에서 사용
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class JwksController {
+
+    // 검증하는 쪽은 모르는 kid를 받으면 목록을 다시 조회하므로 짧게 캐시
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final SigningKeyRing signingKeyRing;
+
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .body(signingKeyRing.jwks());
+    }
+}
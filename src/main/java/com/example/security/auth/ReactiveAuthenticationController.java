@@ -0,0 +1,81 @@
+package com.example.security.auth;
+
+import com.example.security.config.RateLimiter;
+import com.example.security.config.RateLimiter.Endpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.InetSocketAddress;
+
+// AuthenticationController의 reactive 버전
+// 해싱과 DB 작업은 blocking이므로 event-loop가 아닌 별도 scheduler에서 실행
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthenticationController {
+
+    private final AuthenticationService service;
+    // 요청 수 제한 - event-loop에서 바로 확인 (blocking 없음)
+    private final RateLimiter rateLimiter;
+
+    // 회원가입
+    @PostMapping("/register")
+    public Mono<ResponseEntity<AuthenticationResponse>> register (
+            @RequestBody RegisterRequest request,
+            ServerHttpRequest httpRequest
+    ) {
+        rateLimiter.check(Endpoint.REGISTER, clientIp(httpRequest), request.getEmail());
+        return Mono.fromCallable(() -> service.register(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 인증
+    @PostMapping("/authenticate")
+    public Mono<ResponseEntity<AuthenticationResponse>> authenticate (
+            @RequestBody AuthenticationRequest request,
+            ServerHttpRequest httpRequest
+    ) {
+        rateLimiter.check(Endpoint.AUTHENTICATE, clientIp(httpRequest), request.getEmail());
+        return Mono.fromCallable(() -> service.authenticate(request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 재발급
+    @PostMapping("/refresh-token")
+    public Mono<ResponseEntity<AuthenticationResponse>> refreshToken (
+            ServerHttpRequest request
+    ) {
+        rateLimiter.check(Endpoint.REFRESH_TOKEN, clientIp(request), null);
+
+        // cookie 중에서 이름이 refresh-token인 cookie의 값 가져오기
+        HttpCookie cookie = request.getCookies().getFirst("refresh-token");
+
+        // Refresh token이 cookie에 없다면 인증 실패 응답 반환
+        if (cookie == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+
+        return Mono.fromCallable(() -> service.refreshToken(cookie.getValue()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 클라이언트 IP
+    private static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return null;
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
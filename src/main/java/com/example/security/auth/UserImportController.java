@@ -0,0 +1,65 @@
+package com.example.security.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// 사용자 일괄 등록 - ADMIN만 접근 가능
+// 입력을 읽는 대로 처리하고 레코드별 결과를 NDJSON으로 바로 응답
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/admin/users")
+@PreAuthorize("@authz.hasRole(authentication, 'ADMIN')")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    // NDJSON 입력
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    @PreAuthorize("@authz.has(authentication, 'ADMIN_CREATE')")
+    public void importNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importUsers(request, response, UserImportFormat.NDJSON);
+    }
+
+    // CSV 입력
+    @PostMapping(value = "/import", consumes = CSV, produces = NDJSON)
+    @PreAuthorize("@authz.has(authentication, 'ADMIN_CREATE')")
+    public void importCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importUsers(request, response, UserImportFormat.CSV);
+    }
+
+    private void importUsers(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            UserImportFormat format
+    ) throws IOException {
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = response.getWriter();
+        // batch마다 결과를 내보내 클라이언트가 진행 상황을 바로 확인
+        userImportService.importUsers(request.getReader(), format, results -> {
+            for (UserImportResult result : results) {
+                writer.write(objectMapper.writeValueAsString(result));
+                writer.write('\n');
+            }
+            writer.flush();
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.security.auth;
+
+import java.util.Locale;
+
+// 일괄 등록 입력 형식
+public enum UserImportFormat {
+    // 한 줄에 RegisterRequest JSON 하나
+    NDJSON,
+    // 첫 줄은 header (firstname,lastname,email,password,role)
+    CSV;
+
+    // 파일 확장자로 형식 결정 - .csv가 아니면 NDJSON
+    public static UserImportFormat fromFileName(String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.security.auth;
+
+// 일괄 등록의 레코드별 결과
+public record UserImportResult(
+        // 입력의 줄 번호 (1부터)
+        long line,
+        String email,
+        Status status,
+        // 실패 사유 - 성공이면 null
+        String message
+) {
+
+    public enum Status {
+        // 저장 성공
+        CREATED,
+        // 이미 존재하거나 입력 안에서 중복된 이메일
+        DUPLICATE,
+        // 형식이 잘못되었거나 필수 값이 없는 레코드
+        INVALID,
+        // 해싱 또는 저장 실패
+        FAILED
+    }
+
+    static UserImportResult created(long line, String email) {
+        return new UserImportResult(line, email, Status.CREATED, null);
+    }
+
+    static UserImportResult rejected(long line, String email, Status status, String message) {
+        return new UserImportResult(line, email, status, message);
+    }
+}
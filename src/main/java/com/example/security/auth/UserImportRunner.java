@@ -0,0 +1,61 @@
+package com.example.security.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+// 명령행 일괄 등록
+// --import-users=users.ndjson (또는 users.csv) 로 실행하면 파일의 사용자를 등록하고 결과를 표준 출력으로 출력
+// 형식은 확장자로 결정하며 --import-format=csv|ndjson 로 지정할 수도 있음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportRunner implements ApplicationRunner {
+
+    private static final String FILE_OPTION = "import-users";
+    private static final String FORMAT_OPTION = "import-format";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> files = args.getOptionValues(FILE_OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        List<String> formats = args.getOptionValues(FORMAT_OPTION);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        for (String file : files) {
+            UserImportFormat format = formats == null || formats.isEmpty()
+                    ? UserImportFormat.fromFileName(file)
+                    : UserImportFormat.valueOf(formats.get(0).toUpperCase(Locale.ROOT));
+
+            try (Reader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+                long created = userImportService.importUsers(reader, format, results -> {
+                    for (UserImportResult result : results) {
+                        writer.write(objectMapper.writeValueAsString(result));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                });
+                log.info("Imported {} users from {}", created, file);
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.security.auth;
+
+import com.example.security.config.PasswordHashingRejectedException;
+import com.example.security.user.Role;
+import com.example.security.user.User;
+import com.example.security.user.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자 일괄 등록
+// 입력을 batch-size 단위로 읽어 비밀번호를 병렬로 해싱하고, 한 transaction에서 JDBC batch로 저장
+// 토큰은 발급하지 않음 - 등록된 사용자는 로그인으로 토큰을 받음
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService implements DisposableBean {
+
+    // 해싱이 거절되었을 때 재시도 횟수와 대기 시간
+    private static final int HASH_RETRIES = 5;
+    private static final long HASH_RETRY_DELAY_MILLIS = 100;
+
+    private final UserRepository repository;
+    // 로그인과 같은 encoder - 해싱 thread pool을 함께 사용
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 한 번에 읽고 저장하는 레코드 수
+    @Value("${app.security.user-import.batch-size:500}")
+    private int batchSize;
+
+    // 동시에 해싱을 요청하는 수
+    // 해싱 pool 크기보다 크지 않게 두어 로그인 요청이 대기열을 사용할 수 있도록 함
+    @Value("${app.security.user-import.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int parallelism;
+
+    private ExecutorService hashingExecutor;
+
+    // 레코드별 결과를 받는 곳 - batch마다 한 번 호출
+    @FunctionalInterface
+    public interface ResultSink {
+        void write(List<UserImportResult> results) throws IOException;
+    }
+
+    // 입력 한 줄을 해석한 레코드
+    private record Row(long line, RegisterRequest request) {
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger count = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 입력 전체를 등록하고 저장된 사용자 수를 반환
+    // sink에서 IOException이 발생하면 (클라이언트 연결 종료 등) 남은 입력은 처리하지 않음
+    public long importUsers(Reader input, UserImportFormat format, ResultSink sink) throws IOException {
+        BufferedReader reader = input instanceof BufferedReader bufferedReader
+                ? bufferedReader
+                : new BufferedReader(input);
+
+        long start = System.nanoTime();
+        long created = 0;
+        long lineNumber = 0;
+        String[] header = null;
+
+        List<Row> rows = new ArrayList<>(batchSize);
+        List<UserImportResult> results = new ArrayList<>();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == UserImportFormat.CSV && header == null) {
+                header = splitCsv(line);
+                continue;
+            }
+
+            try {
+                rows.add(new Row(lineNumber, parse(line, format, header)));
+            } catch (IllegalArgumentException e) {
+                results.add(UserImportResult.rejected(lineNumber, null, UserImportResult.Status.INVALID, e.getMessage()));
+            }
+
+            if (rows.size() >= batchSize) {
+                created += importBatch(rows, results);
+                sink.write(results);
+                rows.clear();
+                results.clear();
+            }
+        }
+
+        created += importBatch(rows, results);
+        sink.write(results);
+
+        log.info("Imported {} users from {} lines in {} ms",
+                created, lineNumber, (System.nanoTime() - start) / 1_000_000);
+        return created;
+    }
+
+    // batch 하나 처리 - 검증, 중복 확인, 병렬 해싱, 저장
+    private long importBatch(List<Row> rows, List<UserImportResult> results) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 필수 값 확인 + 입력 안에서의 중복 제거
+        List<Row> valid = new ArrayList<>(rows.size());
+        Set<String> emails = new HashSet<>();
+        for (Row row : rows) {
+            RegisterRequest request = row.request();
+            String email = request.getEmail();
+            if (email == null || email.isBlank() || request.getPassword() == null || request.getPassword().isEmpty()) {
+                results.add(UserImportResult.rejected(row.line(), email, UserImportResult.Status.INVALID,
+                        "email and password are required"));
+            } else if (!emails.add(email)) {
+                results.add(UserImportResult.rejected(row.line(), email, UserImportResult.Status.DUPLICATE,
+                        "duplicate email in input"));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // 이미 등록된 이메일 제외 - batch당 한 번의 query
+        Set<String> existing = emails.isEmpty() ? Set.of() : new HashSet<>(repository.findExistingEmails(emails));
+
+        // 비밀번호 병렬 해싱
+        List<Row> pending = new ArrayList<>(valid.size());
+        List<CompletableFuture<String>> hashes = new ArrayList<>(valid.size());
+        for (Row row : valid) {
+            if (existing.contains(row.request().getEmail())) {
+                results.add(UserImportResult.rejected(row.line(), row.request().getEmail(),
+                        UserImportResult.Status.DUPLICATE, "email already registered"));
+                continue;
+            }
+            pending.add(row);
+            hashes.add(CompletableFuture.supplyAsync(() -> encode(row.request().getPassword()), hashingExecutor));
+        }
+
+        List<Row> hashed = new ArrayList<>(pending.size());
+        List<User> users = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            Row row = pending.get(i);
+            try {
+                users.add(toUser(row.request(), hashes.get(i).join()));
+                hashed.add(row);
+            } catch (CompletionException e) {
+                results.add(UserImportResult.rejected(row.line(), row.request().getEmail(),
+                        UserImportResult.Status.FAILED, "password hashing failed: " + e.getCause().getMessage()));
+            }
+        }
+
+        if (users.isEmpty()) {
+            return 0;
+        }
+
+        // 한 transaction에서 저장 - pooled id와 hibernate.jdbc.batch_size로 batch insert
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(users));
+        } catch (RuntimeException e) {
+            log.warn("User import batch of {} failed", users.size(), e);
+            for (Row row : hashed) {
+                results.add(UserImportResult.rejected(row.line(), row.request().getEmail(),
+                        UserImportResult.Status.FAILED, "save failed"));
+            }
+            return 0;
+        }
+
+        for (Row row : hashed) {
+            results.add(UserImportResult.created(row.line(), row.request().getEmail()));
+        }
+        return users.size();
+    }
+
+    // 해싱 - 로그인이 몰려 해싱 대기열이 가득 찬 경우 잠시 후 재시도
+    private String encode(String password) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return passwordEncoder.encode(password);
+            } catch (PasswordHashingRejectedException e) {
+                if (attempt >= HASH_RETRIES) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(HASH_RETRY_DELAY_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static User toUser(RegisterRequest request, String encodedPassword) {
+        return User.builder()
+                .firstname(request.getFirstname())
+                .lastname(request.getLastname())
+                .email(request.getEmail())
+                .password(encodedPassword)
+                // Role이 없으면 일반 사용자
+                .role(request.getRole() != null ? request.getRole() : Role.USER)
+                .build();
+    }
+
+    // 한 줄을 RegisterRequest로 변환
+    private RegisterRequest parse(String line, UserImportFormat format, String[] header) {
+        if (format == UserImportFormat.NDJSON) {
+            try {
+                return objectMapper.readValue(line, RegisterRequest.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("invalid json: " + e.getOriginalMessage());
+            }
+        }
+
+        String[] values = splitCsv(line);
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.length && i < values.length; i++) {
+            fields.put(header[i].trim().toLowerCase(Locale.ROOT), values[i]);
+        }
+
+        String role = fields.get("role");
+        return RegisterRequest.builder()
+                .firstname(fields.get("firstname"))
+                .lastname(fields.get("lastname"))
+                .email(fields.get("email"))
+                .password(fields.get("password"))
+                .role(role == null || role.isBlank() ? null : parseRole(role))
+                .build();
+    }
+
+    private static Role parseRole(String role) {
+        try {
+            return Role.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown role: " + role);
+        }
+    }
+
+    // CSV 한 줄 분리 - 큰따옴표로 감싼 값과 "" escape 지원
+    private static String[] splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values.toArray(String[]::new);
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.security.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 배포 환경에 맞춰 cost를 정하는 BCrypt encoder
+// 저장된 hash의 cost가 현재 cost보다 낮을 때만 다시 해싱하도록 표시
+// 더 높은 cost의 hash는 그대로 둠 - 서버마다 측정한 cost가 달라도 로그인마다 다시 해싱하거나 약하게 바꾸지 않음
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    // $2a$10$... 형식에서 cost 추출
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    // BCrypt가 허용하는 cost 범위 중 실제로 의미 있는 범위
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    // 목표 해싱 시간에 가장 가까운 cost 찾기
+    // cost가 1 오를 때마다 시간이 약 2배가 되므로 목표를 넘을 때까지 올려가며 측정
+    public static int calibrate(long targetMillis) {
+        // JIT warm-up
+        new BCryptPasswordEncoder(MIN_STRENGTH).encode("calibration");
+
+        int best = MIN_STRENGTH;
+        long bestDiff = Long.MAX_VALUE;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            long diff = Math.abs(elapsedMillis - targetMillis);
+            if (diff < bestDiff) {
+                best = strength;
+                bestDiff = diff;
+            }
+            if (elapsedMillis >= targetMillis) {
+                break;
+            }
+        }
+
+        log.info("Calibrated BCrypt strength {} for a target of {} ms", best, targetMillis);
+        return best;
+    }
+}
@@ -1,28 +1,59 @@
 package com.example.security.config;
 
+import com.example.security.user.UserDetailsCache;
 import com.example.security.user.UserRepository;
+import com.example.security.user.UserSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
+@Slf4j
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    // 사용자 정보 캐시
+    private final UserDetailsCache userDetailsCache;
+    // metric 등록
+    private final MeterRegistry meterRegistry;
+
+    // 비밀번호 해싱 thread 수 - 기본값은 core 수
+    @Value("${app.security.password-hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int passwordHashingPoolSize;
+
+    // 비밀번호 해싱 대기열 크기
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    // BCrypt cost - 0이면 기동 시 목표 시간에 맞춰 계산
+    @Value("${app.security.password-hashing.bcrypt-strength:0}")
+    private int bcryptStrength;
+
+    // BCrypt 목표 해싱 시간 (ms)
+    @Value("${app.security.password-hashing.target-millis:50}")
+    private long bcryptTargetMillis;
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(()->new UsernameNotFoundException("User not found"));
+        // 캐시에 없을 때만 DB 조회
+        return username -> userDetailsCache.get(username, email -> userRepository.findByEmail(email)
+                .map(UserSnapshot::from)
+                .orElseThrow(()->new UsernameNotFoundException("User not found")));
     }
 
     // 데이터 접근 역할 - UserDetail 정보 접근 등
@@ -33,20 +64,57 @@ public class ApplicationConfig {
         authProvider.setUserDetailsService(userDetailsService());
         // 비밀번호 암호화 지정
         authProvider.setPasswordEncoder(passwordEncoder());
+        // 로그인 성공 시 cost가 다른 hash를 다시 해싱하여 저장
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
+    // 다시 해싱한 비밀번호 저장
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            userRepository.updatePassword(user.getUsername(), newPassword);
+            userDetailsCache.evict(user.getUsername());
+
+            if (user instanceof UserSnapshot snapshot) {
+                return snapshot.withPassword(newPassword);
+            }
+            return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                    .password(newPassword)
+                    .build();
+        };
+    }
+
     // AuthenticationManager 추가
+    // servlet, reactive 모두에서 사용할 수 있도록 AuthenticationProvider로 직접 생성
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config)
-    throws Exception{
-        return config.getAuthenticationManager();
+    public AuthenticationManager authenticationManager() {
+        return new ProviderManager(authenticationProvider());
     }
 
     // 비밀번호 암호화
+    // 해싱은 전용 thread pool에서 실행
     @Bean
     public PasswordEncoder passwordEncoder() {
+        int strength = bcryptStrength;
+        if (strength <= 0) {
+            strength = AdaptiveBCryptPasswordEncoder.calibrate(bcryptTargetMillis);
+            // 측정값은 서버, 재기동마다 달라질 수 있음
+            log.warn("BCrypt strength {} was calibrated on this node; pin app.security.password-hashing.bcrypt-strength "
+                    + "so that all nodes use the same cost", strength);
+        }
+        PasswordEncoder bcrypt = new AdaptiveBCryptPasswordEncoder(strength);
+
+        // {bcrypt} prefix로 저장, prefix 없는 기존 hash도 BCrypt로 확인
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
         // Bcrypt encoder 반환
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(
+                delegating,
+                passwordHashingPoolSize,
+                passwordHashingQueueCapacity,
+                meterRegistry
+        );
     }
 }
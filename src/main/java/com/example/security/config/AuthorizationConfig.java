@@ -0,0 +1,40 @@
+package com.example.security.config;
+
+import com.example.security.user.Permission;
+import com.example.security.user.Role;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+// 요청 권한 규칙 - servlet, reactive 보안 설정에서 함께 사용
+@Configuration
+public class AuthorizationConfig {
+
+    private static final Role ADMIN = Role.ADMIN;
+    private static final Role MANAGER = Role.MANAGER;
+
+    // 나열되지 않은 요청은 인증만 필요
+    @Bean
+    public CompiledAuthorizationManager requestAuthorizationManager() {
+        return CompiledAuthorizationManager.builder()
+                // 나열된 요청들은 모두 허용
+                .permitAll("/api/v1/auth/**")
+
+                // 권한이 필요한 요청 설정
+                // ManagementController
+                .hasAnyRole("/api/v1/management/**", ADMIN, MANAGER)
+                .hasAnyPermission("/api/v1/management/**", HttpMethod.GET, Permission.ADMIN_READ, Permission.MANAGER_READ)
+                .hasAnyPermission("/api/v1/management/**", HttpMethod.POST, Permission.ADMIN_CREATE, Permission.MANAGER_CREATE)
+                .hasAnyPermission("/api/v1/management/**", HttpMethod.PUT, Permission.ADMIN_UPDATE, Permission.MANAGER_UPDATE)
+                .hasAnyPermission("/api/v1/management/**", HttpMethod.DELETE, Permission.ADMIN_DELETE, Permission.MANAGER_DELETE)
+
+                // AdminController
+                // servlet에선 @PreAuthorize와 같은 규칙, reactive에선 이 규칙으로 확인
+                .hasAnyRole("/api/v1/admin/**", ADMIN)
+                .hasAnyPermission("/api/v1/admin/**", HttpMethod.GET, Permission.ADMIN_READ)
+                .hasAnyPermission("/api/v1/admin/**", HttpMethod.POST, Permission.ADMIN_CREATE)
+                .hasAnyPermission("/api/v1/admin/**", HttpMethod.PUT, Permission.ADMIN_UPDATE)
+                .hasAnyPermission("/api/v1/admin/**", HttpMethod.DELETE, Permission.ADMIN_DELETE)
+                .build();
+    }
+}
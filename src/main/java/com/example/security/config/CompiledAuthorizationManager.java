@@ -0,0 +1,237 @@
+package com.example.security.config;
+
+import com.example.security.user.Permission;
+import com.example.security.user.Role;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 요청 권한 규칙을 기동 시 lookup table로 만들어 두는 AuthorizationManager
+// path prefix -> (필요 Role bitmask, HTTP method별 필요 권한 bitmask)
+// 요청마다 prefix 조회 한 번과 bit 연산으로 결정
+// 규칙이 없는 path는 인증만 필요
+// path는 decode, 정규화된 값으로 조회 - Spring MVC가 handler를 찾는 path와 같아야 규칙을 우회할 수 없음
+public class CompiledAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    // path prefix -> 규칙
+    private final Map<String, Rule> rules;
+
+    private CompiledAuthorizationManager(Map<String, Rule> rules) {
+        this.rules = Map.copyOf(rules);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        // getRequestURI()는 encode된 값이므로 decode, ';' parameter 제거된 path 사용
+        return check(
+                authentication,
+                UrlPathHelper.defaultInstance.getPathWithinApplication(request),
+                request.getMethod()
+        );
+    }
+
+    // reactive 요청의 path - WebFlux와 같이 decode된 segment 값으로 만듦 (';' parameter 제외)
+    public static String pathOf(PathContainer path) {
+        StringBuilder builder = new StringBuilder(path.value().length());
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment) {
+                builder.append(segment.valueToMatch());
+            } else {
+                builder.append(element.value());
+            }
+        }
+        return builder.toString();
+    }
+
+    // path, HTTP method로 권한 결정 - servlet, reactive 공통
+    // path는 decode된 값이어야 함
+    public AuthorizationDecision check(Supplier<Authentication> authentication, String path, String method) {
+        Rule rule = lookup(normalizePath(path));
+
+        if (rule != null && rule.permitAll()) {
+            return GRANTED;
+        }
+
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || trustResolver.isAnonymous(auth)) {
+            return DENIED;
+        }
+        if (rule == null) {
+            return GRANTED;
+        }
+
+        // 필요 Role 확인
+        if (rule.roleMask() != 0 && (roleMaskOf(auth) & rule.roleMask()) == 0) {
+            return DENIED;
+        }
+
+        // HTTP method별 필요 권한 확인 - 하나라도 있으면 허용
+        Long required = rule.permissionMasks().get(method);
+        if (required != null && (permissionMaskOf(auth) & required) == 0) {
+            return DENIED;
+        }
+        return GRANTED;
+    }
+
+    // 연속된 '/'와 끝의 '/' 제거 - "//api/v1//management/" -> "/api/v1/management"
+    static String normalizePath(String path) {
+        StringBuilder normalized = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/' && normalized.length() > 0 && normalized.charAt(normalized.length() - 1) == '/') {
+                continue;
+            }
+            normalized.append(c);
+        }
+        while (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+        return normalized.toString();
+    }
+
+    // 가장 긴 prefix부터 '/' 단위로 줄여가며 조회
+    private Rule lookup(String path) {
+        String prefix = path;
+        while (!prefix.isEmpty()) {
+            Rule rule = rules.get(prefix);
+            if (rule != null) {
+                return rule;
+            }
+            int slash = prefix.lastIndexOf('/');
+            if (slash < 0) {
+                break;
+            }
+            prefix = prefix.substring(0, slash);
+        }
+        return null;
+    }
+
+    // 인증 정보의 Role bitmask
+    private long roleMaskOf(Authentication auth) {
+        Role role = PermissionChecker.roleOf(auth);
+        if (role != null) {
+            return role.mask();
+        }
+
+        long mask = 0L;
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name.startsWith("ROLE_")) {
+                try {
+                    mask |= Role.valueOf(name.substring("ROLE_".length())).mask();
+                } catch (IllegalArgumentException e) {
+                    // 알 수 없는 Role은 무시
+                }
+            }
+        }
+        return mask;
+    }
+
+    // 인증 정보의 권한 bitmask
+    private long permissionMaskOf(Authentication auth) {
+        Role role = PermissionChecker.roleOf(auth);
+        if (role != null) {
+            return role.getPermissionMask();
+        }
+
+        long mask = 0L;
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            Permission permission = Permission.fromPermission(authority.getAuthority());
+            if (permission != null) {
+                mask |= permission.mask();
+            }
+        }
+        return mask;
+    }
+
+    // path prefix 하나에 대한 규칙
+    private record Rule(boolean permitAll, long roleMask, Map<String, Long> permissionMasks) {
+    }
+
+    // 규칙 등록
+    // prefix는 "/api/v1/management/**"와 같이 그 하위 경로 전체에 적용
+    public static class Builder {
+
+        private final Map<String, Boolean> permitAll = new HashMap<>();
+        private final Map<String, Long> roleMasks = new HashMap<>();
+        private final Map<String, Map<String, Long>> permissionMasks = new HashMap<>();
+
+        // 인증 없이 허용
+        public Builder permitAll(String prefix) {
+            permitAll.put(normalize(prefix), true);
+            return this;
+        }
+
+        // 나열된 Role 중 하나 필요
+        public Builder hasAnyRole(String prefix, Role... roles) {
+            long mask = 0L;
+            for (Role role : roles) {
+                mask |= role.mask();
+            }
+            roleMasks.merge(normalize(prefix), mask, (a, b) -> a | b);
+            return this;
+        }
+
+        // 해당 HTTP method 요청에 나열된 권한 중 하나 필요
+        public Builder hasAnyPermission(String prefix, HttpMethod method, Permission... permissions) {
+            long mask = 0L;
+            for (Permission permission : permissions) {
+                mask |= permission.mask();
+            }
+            permissionMasks
+                    .computeIfAbsent(normalize(prefix), key -> new HashMap<>())
+                    .merge(method.name(), mask, (a, b) -> a | b);
+            return this;
+        }
+
+        public CompiledAuthorizationManager build() {
+            Map<String, Rule> rules = new HashMap<>();
+            permitAll.keySet().forEach(prefix -> rules.put(prefix, new Rule(true, 0L, Map.of())));
+            roleMasks.keySet().forEach(prefix -> rules.putIfAbsent(prefix, compile(prefix)));
+            permissionMasks.keySet().forEach(prefix -> rules.putIfAbsent(prefix, compile(prefix)));
+            return new CompiledAuthorizationManager(rules);
+        }
+
+        private Rule compile(String prefix) {
+            return new Rule(
+                    false,
+                    roleMasks.getOrDefault(prefix, 0L),
+                    Map.copyOf(permissionMasks.getOrDefault(prefix, Map.of()))
+            );
+        }
+
+        // "/api/v1/auth/**" -> "/api/v1/auth"
+        private static String normalize(String prefix) {
+            String normalized = prefix;
+            if (normalized.endsWith("/**")) {
+                normalized = normalized.substring(0, normalized.length() - 3);
+            }
+            while (normalized.endsWith("/")) {
+                normalized = normalized.substring(0, normalized.length() - 1);
+            }
+            return normalized;
+        }
+    }
+}
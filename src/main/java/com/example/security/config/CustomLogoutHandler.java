@@ -1,8 +1,7 @@
 package com.example.security.config;
 
-import com.example.security.token.BlackList;
-import com.example.security.token.BlackListRepository;
 import com.example.security.user.User;
+import com.example.security.user.UserDetailsCache;
 import com.example.security.user.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,10 +15,10 @@ import org.springframework.stereotype.Service;
 public class CustomLogoutHandler implements LogoutHandler {
     // DB와 상호작용하는 사용자 repo
     private final UserRepository userRepository;
-    // Token Blacklist
-    private final BlackListRepository blackListRepository;
     // jwt 서비스
     private final JwtService jwtService;
+    // 사용자 정보 캐시
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public void logout(
@@ -37,7 +36,14 @@ public class CustomLogoutHandler implements LogoutHandler {
 
         // Access Token 추출
         String token = authHeader.substring(7);
-        String userEmail = jwtService.extractUsername(token);
+        // 요청 내에서 한 번만 검증
+        logout(jwtService.verify(request, token));
+    }
+
+    // 검증된 Access Token으로 로그아웃 처리
+    // reactive 로그아웃 핸들러에서도 사용
+    public void logout(VerifiedToken verifiedToken) {
+        String userEmail = verifiedToken.getSubject();
 
         // token 내 이메일 확인
         if (userEmail != null) {
@@ -45,16 +51,15 @@ public class CustomLogoutHandler implements LogoutHandler {
             User user = userRepository.findByEmail(userEmail).orElse(null);
 
             // token 유효성 검사
-            if (user != null && jwtService.isAccessTokenValid(token, user)) {
+            if (user != null && jwtService.isAccessTokenValid(verifiedToken, user)) {
                 // Access Token을 BlackList에 추가
-                BlackList blackList = new BlackList();
-                blackList.setAccessToken(token);
+                jwtService.revokeAccessToken(verifiedToken);
 
-                // BlackList 저장
-                blackListRepository.save(blackList);
+                // 기존에 db에 저장된 사용자의 모든 Refresh Token 제거 - 응답 전에 삭제
+                jwtService.revokeAllUserToken(user);
 
-                // 기존에 db에 저장된 사용자의 모든 Refresh Token 제거
-                jwtService.removeAllUserToken(user);
+                // 캐시된 사용자 정보 제거
+                userDetailsCache.evict(userEmail);
             }
 
         }
@@ -0,0 +1,57 @@
+package com.example.security.config;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Hibernate 통계를 주기적으로 JSON 한 줄로 기록하고 초기화
+// spring.jpa.properties.hibernate.generate_statistics가 true일 때만 동작
+@Component
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+@Slf4j
+public class HibernateStatisticsReporter {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsReporter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jpa.statistics.interval:60000}")
+    public void report() {
+        if (statistics.getPrepareStatementCount() == 0) {
+            return;
+        }
+
+        StringBuilder json = new StringBuilder(512)
+                .append("{\"event\":\"hibernate_statistics\"")
+                .append(",\"transactions\":").append(statistics.getTransactionCount())
+                .append(",\"statementsPrepared\":").append(statistics.getPrepareStatementCount())
+                .append(",\"queries\":").append(statistics.getQueryExecutionCount())
+                .append(",\"queryMaxMs\":").append(statistics.getQueryExecutionMaxTime())
+                .append(",\"entityLoads\":").append(statistics.getEntityLoadCount())
+                .append(",\"entityInserts\":").append(statistics.getEntityInsertCount())
+                .append(",\"entityUpdates\":").append(statistics.getEntityUpdateCount())
+                .append(",\"entityDeletes\":").append(statistics.getEntityDeleteCount())
+                .append(",\"flushes\":").append(statistics.getFlushCount())
+                .append(",\"slowestQuery\":");
+        String slowestQuery = statistics.getQueryExecutionMaxTimeQueryString();
+        if (slowestQuery == null) {
+            json.append("null");
+        } else {
+            json.append('"');
+            JsonStringEncoder.getInstance().quoteAsString(slowestQuery, json);
+            json.append('"');
+        }
+        json.append('}');
+        log.info(json.toString());
+
+        // 주기별 값으로 기록
+        statistics.clear();
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.security.config;
 
+import com.example.security.user.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,13 +18,17 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    // 단계별 소요 시간
+    private final AuthenticationMetrics authenticationMetrics;
 
     // 요청이 들어왔을 때 처리할 작업
     @Override
@@ -35,6 +42,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String authHeader = request.getHeader("Authorization");
         // jwt
         final String jwt;
+        // 검증된 jwt
+        final VerifiedToken verifiedToken;
         // 사용자 이메일
         final String userEmail;
 
@@ -47,16 +56,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // token 추출
         jwt = authHeader.substring(7); // "Bearer "는 7글자
+        // jwt 검증 - 요청당 한 번만 parse
+        long start = System.nanoTime();
+        verifiedToken = jwtService.verify(request, jwt);
+        start = authenticationMetrics.record(AuthenticationMetrics.Stage.FILTER_PARSE, start);
         // jwt로부터 사용자 이메일을 추출
-        userEmail = jwtService.extractUsername(jwt);
+        userEmail = verifiedToken.getSubject();
 
         // 검증 절차
         // 사용자가 존재하고, 아직 인증을 진행하지 않아 SecurityContextHolder에 저장되지 않았을 때
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // stateless 모드 - 토큰의 클레임만으로 인증
+            if (jwtService.isStatelessAuthentication() && verifiedToken.isStateless()) {
+                // 알 수 없는 Role이면 유효하지 않은 토큰으로 처리
+                List<SimpleGrantedAuthority> authorities = jwtService.isAccessTokenValid(verifiedToken)
+                        ? statelessAuthorities(verifiedToken)
+                        : null;
+                authenticationMetrics.record(AuthenticationMetrics.Stage.FILTER_VALIDATE, start);
+                if (authorities != null) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            userEmail,
+                            null,
+                            authorities
+                    );
+                    authToken.setDetails(
+                            new WebAuthenticationDetailsSource().buildDetails(request)
+                    );
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
+                doFilter(request, response, filterChain);
+                return;
+            }
+
             // DB에서 해당 사용자 검색
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            // jwt 유효성 확인
-            if (jwtService.isAccessTokenValid(jwt, userDetails)) {
+            start = authenticationMetrics.record(AuthenticationMetrics.Stage.FILTER_USER_LOOKUP, start);
+            // jwt 유효성 확인 - 폐기 여부 포함
+            boolean valid = jwtService.isAccessTokenValid(verifiedToken, userDetails);
+            authenticationMetrics.record(AuthenticationMetrics.Stage.FILTER_VALIDATE, start);
+            if (valid) {
                 // Spring SecurityContext에 업데이트에 필요한 객체
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -70,6 +108,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
         // 항상 작업이 끝나면 다음 필터로 넘겨줘야 함
-        filterChain.doFilter(request, response);
+        doFilter(request, response, filterChain);
+    }
+
+    // 다음 필터 실행 - 이후 필터와 컨트롤러의 소요 시간 기록
+    private void doFilter(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            authenticationMetrics.record(AuthenticationMetrics.Stage.FILTER_CHAIN, start);
+        }
+    }
+
+    // stateless 토큰의 권한 목록
+    // 토큰의 권한이 현재 Role과 같으면 미리 만들어 둔 목록을 그대로 사용
+    // 알 수 없는 Role이면 null
+    private List<SimpleGrantedAuthority> statelessAuthorities(VerifiedToken verifiedToken) {
+        Role role = verifiedToken.roleOrNull();
+        if (role == null) {
+            return null;
+        }
+        if (role.getPermissionMask() == verifiedToken.getPermissionMask()) {
+            return role.getAuthorities();
+        }
+        return verifiedToken.getAuthorities()
+                .stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
     }
 }
@@ -0,0 +1,111 @@
+package com.example.security.config;
+
+import com.example.security.user.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+// JwtAuthenticationFilter의 reactive 버전
+// 서명 검증, 폐기 여부 확인은 메모리에서 처리하고
+// 사용자 조회만 ReactiveUserDetailsService로 위임
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final JwtService jwtService;
+    private final ReactiveUserDetailsService userDetailsService;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        // jwt가 없으면 요청을 이후 필터로 전달
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        // token 추출 및 검증
+        String token = authHeader.substring(7);
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtService.verify(token);
+        } catch (SigningKeyNotLoadedException e) {
+            // 다른 서버가 만든 새 키를 읽는 중 - event loop에서 기다리지 않고 다시 읽기가 끝나면 별도 scheduler에서 다시 검증
+            // 다시 읽기가 실패해도 다시 검증에서 모르는 kid로 거절됨
+            return Mono.fromFuture(e.getReload())
+                    .onErrorResume(error -> Mono.empty())
+                    .then(Mono.fromCallable(() -> jwtService.verify(token))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .flatMap(reverified -> filter(exchange, chain, reverified));
+        }
+        return filter(exchange, chain, verifiedToken);
+    }
+
+    // 검증된 토큰으로 인증 후 다음 필터 실행
+    private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, VerifiedToken verifiedToken) {
+        String userEmail = verifiedToken.getSubject();
+        if (userEmail == null) {
+            return chain.filter(exchange);
+        }
+
+        return authenticate(verifiedToken)
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                        .then(Mono.just(true)))
+                .switchIfEmpty(chain.filter(exchange).then(Mono.just(false)))
+                .then();
+    }
+
+    // 검증된 토큰으로 인증 객체 생성 - 유효하지 않으면 empty
+    private Mono<Authentication> authenticate(VerifiedToken verifiedToken) {
+        // stateless 모드 - 토큰의 클레임만으로 인증
+        if (jwtService.isStatelessAuthentication() && verifiedToken.isStateless()) {
+            if (!jwtService.isAccessTokenValid(verifiedToken)) {
+                return Mono.empty();
+            }
+            // 알 수 없는 Role이면 유효하지 않은 토큰으로 처리
+            List<SimpleGrantedAuthority> authorities = statelessAuthorities(verifiedToken);
+            if (authorities == null) {
+                return Mono.empty();
+            }
+            return Mono.just(new UsernamePasswordAuthenticationToken(
+                    verifiedToken.getSubject(),
+                    null,
+                    authorities
+            ));
+        }
+
+        return userDetailsService.findByUsername(verifiedToken.getSubject())
+                .filter(userDetails -> jwtService.isAccessTokenValid(verifiedToken, userDetails))
+                .map(userDetails -> new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                ));
+    }
+
+    // stateless 토큰의 권한 목록 - 알 수 없는 Role이면 null
+    private List<SimpleGrantedAuthority> statelessAuthorities(VerifiedToken verifiedToken) {
+        Role role = verifiedToken.roleOrNull();
+        if (role == null) {
+            return null;
+        }
+        if (role.getPermissionMask() == verifiedToken.getPermissionMask()) {
+            return role.getAuthorities();
+        }
+        return verifiedToken.getAuthorities()
+                .stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
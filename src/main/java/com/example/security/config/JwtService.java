@@ -1,39 +1,61 @@
 package com.example.security.config;
 
+import com.example.security.token.AsyncTokenRemover;
 import com.example.security.token.BlackList;
 import com.example.security.token.BlackListRepository;
+import com.example.security.token.RevocationIndex;
+import com.example.security.token.RevocationPropagator;
 import com.example.security.token.Token;
+import com.example.security.token.TokenDigest;
 import com.example.security.token.TokenRepository;
+import com.example.security.token.TokenWatermarks;
+import com.example.security.token.TokenWriteBehind;
+import com.example.security.user.Role;
 import com.example.security.user.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JwtService {
+    // 요청 내에서 검증된 토큰을 보관하는 attribute 이름
+    private static final String VERIFIED_TOKEN_ATTRIBUTE = JwtService.class.getName() + ".VERIFIED_TOKEN";
+
     // DB와 상호작용하는 token repo
     private final TokenRepository tokenRepository;
     // blacklist
     private final BlackListRepository blackListRepository;
-
-    @Value("${app.security.jwt.secret-key}")
-    private String secretKey;
+    // 폐기된 Access Token 메모리 인덱스
+    private final RevocationIndex revocationIndex;
+    // 사용자별 토큰 무효화 기준 시각
+    private final TokenWatermarks tokenWatermarks;
+    // 폐기 정보를 다른 서버에 전달
+    private final RevocationPropagator revocationPropagator;
+    // Refresh Token 비동기 삭제
+    private final AsyncTokenRemover asyncTokenRemover;
+    // 토큰 쓰기 일괄 처리
+    private final TokenWriteBehind tokenWriteBehind;
+    // kid별 서명, 검증 키
+    private final SigningKeyRing signingKeyRing;
 
     // Access Token 만료기한
     @Value("${app.security.jwt.access-token-expiration}")
@@ -43,36 +65,199 @@ public class JwtService {
     @Value("${app.security.jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    // DB에 토큰 저장
+    // stateless 인증 사용 여부
+    // true면 Access Token에 role, perm 클레임을 넣고 필터에서 DB 조회 없이 인증
+    @Value("${app.security.jwt.stateless:false}")
+    private boolean statelessAuthentication;
+
+    // 로그인 시 기존 Refresh Token 삭제를 비동기로 처리할지 여부 (로그아웃은 항상 바로 삭제)
+    @Value("${app.security.jwt.async-token-removal:false}")
+    private boolean asyncTokenRemoval;
+
+    // jwt parser - 불변 객체이므로 thread-safe하게 재사용
+    private JwtParser jwtParser;
+
+    // parser 초기화
+    // 검증 키는 토큰 header의 kid로 key ring에서 선택
+    @PostConstruct
+    void init() {
+        this.jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKeyResolver(signingKeyRing)
+                .build();
+    }
+
+    // DB에 토큰 저장 - 로그인으로 새로 시작하는 family
+    // family id는 첫 토큰의 digest
     public void saveUserToken(String refreshToken, User user) {
-        Token token = new Token(refreshToken, user.getEmail());
+        UUID digest = TokenDigest.of(refreshToken).toUuid();
+        saveUserToken(digest, user.getEmail(), digest);
+    }
+
+    // DB에 토큰 저장 - 재발급된 토큰
+    public void saveUserToken(String refreshToken, String email, UUID familyId) {
+        saveUserToken(TokenDigest.of(refreshToken).toUuid(), email, familyId);
+    }
+
+    private void saveUserToken(UUID digest, String email, UUID familyId) {
+        Token token = Token.builder()
+                .tokenDigest(digest)
+                .email(email)
+                // 토큰 생성 직후 호출되므로 실제 만료 시각보다 조금 늦은 상한값
+                .expiresAt(Instant.now().plusMillis(refreshTokenExpiration))
+                .familyId(familyId)
+                .build();
+        if (tokenWriteBehind.isEnabled()) {
+            tokenWriteBehind.saveToken(token);
+            return;
+        }
+        // 새 토큰이므로 SELECT 없이 INSERT만 실행
         tokenRepository.save(token);
     }
 
-    // DB에서 토큰 제거
-    public void removeUserToken(String refreshToken, User user) {
-        Token token = new Token(refreshToken, user.getEmail());
-        tokenRepository.delete(token);
+    // Refresh Token 재발급 결과
+    public enum RefreshResult {
+        // 사용 처리 성공 - 재발급 진행
+        CONSUMED,
+        // 이미 사용된 토큰 - family 전체 폐기됨
+        REUSED,
+        // DB에 없거나 만료된 토큰
+        INVALID
+    }
+
+    // Refresh Token family
+    // 재발급된 토큰은 fam 클레임, 로그인 시 발급된 첫 토큰은 자신의 digest
+    public UUID familyOf(VerifiedToken token) {
+        return token.getFamilyId() != null ? token.getFamilyId() : token.digest().toUuid();
+    }
+
+    // Refresh Token 사용 처리
+    // 조건부 update 한 번으로 확인과 사용 처리를 함께 수행
+    // 실패한 경우에만 원인을 조회하여 재사용이면 family 전체를 폐기
+    public RefreshResult consumeRefreshToken(VerifiedToken token, UserDetails userDetails) {
+        if (!token.getSubject().equals(userDetails.getUsername()) || token.isExpired()) {
+            return RefreshResult.INVALID;
+        }
+
+        UUID digest = token.digest().toUuid();
+        String email = userDetails.getUsername();
+        Instant now = Instant.now();
+
+        if (tokenWriteBehind.isEnabled()) {
+            // 아직 DB에 반영되지 않은 family 삭제 대상이면 무효
+            if (tokenWriteBehind.isPendingFamilyRemoval(familyOf(token))) {
+                return RefreshResult.INVALID;
+            }
+            // 아직 DB에 저장되지 않은 토큰은 메모리에서 사용 처리
+            // 사용자 토큰 삭제를 예약할 때 버퍼에서도 지우므로 버퍼에 남은 토큰은 삭제 대상이 아님
+            Boolean consumed = tokenWriteBehind.consumePending(digest, email, now);
+            if (consumed != null) {
+                return consumed ? RefreshResult.CONSUMED : revokeFamilyIfReused(token, email, digest);
+            }
+            // DB에 있는 토큰이 아직 반영되지 않은 사용자 토큰 삭제 대상이면 무효
+            if (tokenWriteBehind.isPendingUserRemoval(email, digest)) {
+                return RefreshResult.INVALID;
+            }
+        }
+
+        if (tokenRepository.consume(digest, email, now) == 1) {
+            return RefreshResult.CONSUMED;
+        }
+        return revokeFamilyIfReused(token, email, digest);
+    }
+
+    // 사용 처리에 실패한 원인 확인
+    // 이미 사용된 토큰이면 family 전체 폐기
+    private RefreshResult revokeFamilyIfReused(VerifiedToken token, String email, UUID digest) {
+        boolean reused = tokenWriteBehind.isEnabled() && tokenWriteBehind.isPendingConsumed(digest);
+        if (!reused) {
+            Token dbToken = tokenRepository.findById(digest).orElse(null);
+            reused = dbToken != null && dbToken.isConsumed();
+        }
+        if (!reused) {
+            return RefreshResult.INVALID;
+        }
+
+        log.warn("Refresh token reuse detected for {}, revoking token family", email);
+        if (tokenWriteBehind.isEnabled()) {
+            tokenWriteBehind.removeTokenFamily(familyOf(token));
+        } else {
+            tokenRepository.deleteAllByFamilyId(familyOf(token));
+        }
+        // stateless Access Token도 무효화 - 다른 서버에도 전달
+        revocationPropagator.invalidateIssuedBefore(email, Instant.now());
+        return RefreshResult.REUSED;
+    }
+
+    // Access Token 폐기
+    // 메모리 인덱스에 등록하고 다른 서버에 전달한 뒤 DB에 저장
+    public void revokeAccessToken(VerifiedToken token) {
+        BlackList blackList = new BlackList();
+        blackList.setTokenDigest(token.digest().toUuid());
+        blackList.setExpiresAt(token.getExpiration().toInstant());
+        // 메모리 인덱스에 먼저 등록하므로 DB 저장은 늦어져도 됨
+        revocationPropagator.revokeAccessToken(token.digest(), token.getExpiration().getTime());
+        if (tokenWriteBehind.isEnabled()) {
+            tokenWriteBehind.saveBlackList(blackList);
+            return;
+        }
+        blackListRepository.save(blackList);
     }
 
-    // DB에 저장된 사용자의 모든 토큰 제거
+    // 로그인 시 기존 Refresh Token 제거
+    // 새 토큰은 이 기준 이후에 저장되어 유지되므로 비동기로 삭제해도 됨
     public void removeAllUserToken(User user) {
-        List<Token> list = tokenRepository.findAllByEmail(user.getEmail());
+        removeAllUserToken(user.getEmail(), asyncTokenRemoval);
+    }
+
+    // 로그아웃 시 Refresh Token 폐기 - 항상 바로 삭제
+    // 비동기로 삭제하면 그 사이 재발급된 토큰이 기준 이후에 저장되어 로그아웃 뒤에도 남음
+    public void revokeAllUserToken(User user) {
+        removeAllUserToken(user.getEmail(), false);
+    }
 
-        if (list != null && !list.isEmpty()) {
-            list.forEach(tokenRepository::delete);
+    // DB에 저장된 사용자의 모든 토큰 제거 - 한 번의 delete로 처리
+    // 비동기 모드에선 삭제를 예약만 하고 바로 반환
+    // write-behind는 flush 전에도 삭제 대상을 메모리에서 무효로 처리하므로 로그아웃에도 사용
+    private void removeAllUserToken(String email, boolean async) {
+        if (tokenWriteBehind.isEnabled()) {
+            tokenWriteBehind.removeAllUserTokens(email, Instant.now().plusMillis(refreshTokenExpiration));
+            return;
+        }
+        if (async) {
+            // 지금 이후 발급되는 토큰은 만료 시각이 이 기준보다 늦으므로 삭제되지 않음
+            asyncTokenRemover.removeAllUserTokens(email, Instant.now().plusMillis(refreshTokenExpiration));
+            return;
         }
+        tokenRepository.deleteAllByEmail(email);
+    }
+
+    // 토큰 검증 - 서명 검증은 여기서 한 번만 수행
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(token, extractAllClaims(token));
+    }
+
+    // 요청 단위 토큰 검증
+    // 같은 요청에서 이미 검증한 토큰이면 다시 parse하지 않고 재사용
+    public VerifiedToken verify(HttpServletRequest request, String token) {
+        Object cached = request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE);
+        if (cached instanceof VerifiedToken verifiedToken && verifiedToken.getToken().equals(token)) {
+            return verifiedToken;
+        }
+
+        VerifiedToken verifiedToken = verify(token);
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
+        return verifiedToken;
     }
 
     // 토큰에서 사용자 이름 추출
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getSubject();
     }
 
     // 클레임 추출
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token).getClaims());
     }
 
     // Access 토큰 생성 - UserDetail로만 생성
@@ -85,15 +270,46 @@ public class JwtService {
             Map<String, Object> extraClaims, // 토큰에 보낼 정보
             UserDetails userDetails
     ) {
-
+        // stateless 모드에선 권한 정보를 클레임으로 추가
+        if (statelessAuthentication) {
+            Role role = roleOf(userDetails);
+            if (role != null) {
+                extraClaims = new HashMap<>(extraClaims);
+                extraClaims.put(VerifiedToken.ROLE_CLAIM, role.name());
+                extraClaims.put(VerifiedToken.PERMISSION_CLAIM, role.getPermissionMask());
+            }
+        }
         return generateToken(extraClaims, userDetails, accessTokenExpiration);
     }
 
+    // UserDetails의 권한 목록에서 Role 찾기
+    private Role roleOf(UserDetails userDetails) {
+        return userDetails.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> Role.valueOf(authority.substring("ROLE_".length())))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // stateless 인증 사용 여부
+    public boolean isStatelessAuthentication() {
+        return statelessAuthentication;
+    }
+
     // Refresh 토큰 생성 - UserDetail로만 생성
     public String generateRefreshToken(UserDetails userDetails) {
         return generateRefreshToken(new HashMap<>(), userDetails);
     }
 
+    // Refresh 토큰 생성 - 재발급 시 기존 family 유지
+    public String generateRefreshToken(UserDetails userDetails, UUID familyId) {
+        Map<String, Object> extraClaims = new HashMap<>();
+        extraClaims.put(VerifiedToken.FAMILY_CLAIM, familyId.toString());
+        return generateRefreshToken(extraClaims, userDetails);
+    }
+
     // Refresh 토큰 생성
     public String generateRefreshToken(
             Map<String, Object> extraClaims, // 토큰에 보낼 정보
@@ -108,75 +324,65 @@ public class JwtService {
             UserDetails userDetails,
             long expireTime
     ) {
-        return Jwts
+        SigningKeyRing.ActiveKey signingKey = signingKeyRing.signingKey();
+        JwtBuilder builder = Jwts
                 .builder()
                 .setClaims(extraClaims) // 클레임 추가
                 .setSubject(userDetails.getUsername()) // subject 추가
                 .setIssuedAt(new Date(System.currentTimeMillis())) // 토큰 발행일
-                .setExpiration(new Date(System.currentTimeMillis() + expireTime)) // 만료기한
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + expireTime)); // 만료기한
+        // 검증하는 쪽에서 키를 찾을 수 있도록 kid 추가 (HS256은 없음)
+        if (signingKey.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid());
+        }
+        return builder
+                .signWith(signingKey.key(), signingKey.algorithm())
                 .compact();
     }
 
     // Access Token 유효성 검사
     public boolean isAccessTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
+        return isAccessTokenValid(verify(token), userDetails);
+    }
 
-        // Access Token이 BlackList에 있는지 조회
-        BlackList blackList = blackListRepository.findByAccessToken(token).orElse(null);
-        boolean isBlackListToken = (blackList != null);
+    // Access Token 유효성 검사 - 검증된 토큰 사용
+    public boolean isAccessTokenValid(VerifiedToken token, UserDetails userDetails) {
+        final String username = token.getSubject();
 
         // 토큰의 사용자 정보가 DB의 정보와 일치 여부 + 만료 기한 확인
         // DB에 사용자 정보가 없다면 여기서 false를 반환하여 유효하지 않음을 확인
-        return (username.equals(userDetails.getUsername()))
-                && !isTokenExpired(token)
-                && !isBlackListToken;
-    }
-
-    // Refresh Token 유효성 검사
-    public boolean isRefreshTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        // DB에 저장된 토큰 정보 가져오기
-        Token dbToken = tokenRepository.findByRefreshToken(token).orElse(null);
-
-        // 요청에 들어온 토큰 정보 유효성
-        // DB 사용자와 토큰의 사용자 정보 일치 여부, 토큰 만료 여부
-        boolean isValidRequestToken = (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        if (!username.equals(userDetails.getUsername()) || token.isExpired()) {
+            return false;
+        }
 
-        // DB에 저장된 토큰 정보 유효성
-        // DB에 토큰 존재 여부
-        // 요청 사용자와 DB에 저장된 토큰의 사용자 정보 일치 여부
-        boolean isValidDbToken = (dbToken != null)
-                && username.equals(dbToken.getEmail())
-                && userDetails.getUsername().equals(dbToken.getEmail());
+        // Access Token이 폐기되었는지 메모리 인덱스에서 조회
+        return !revocationIndex.isRevoked(token.digest(), token.getExpiration().getTime());
+    }
 
-        return isValidRequestToken && isValidDbToken;
+    // Access Token 유효성 검사 - stateless 인증
+    // DB 사용자 정보 대신 만료, 폐기 여부, 사용자별 무효화 기준 시각만 확인
+    public boolean isAccessTokenValid(VerifiedToken token) {
+        return token.getSubject() != null
+                && !token.isExpired()
+                && !tokenWatermarks.isIssuedBeforeWatermark(token.getSubject(), token.getIssuedAt())
+                && !revocationIndex.isRevoked(token.digest(), token.getExpiration().getTime());
     }
 
     // 토큰 만료 확인
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return verify(token).isExpired();
     }
 
     // 토큰에서 만료 기한 가져오기
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).getExpiration();
     }
 
     // jwt에서 모든 클레임 추출
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    // jwt 서명에 사용하는 비밀 키 생성
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
 }
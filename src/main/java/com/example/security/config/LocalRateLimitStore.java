@@ -0,0 +1,54 @@
+package com.example.security.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 메모리 토큰 버킷 저장소
+// 버킷 하나는 AtomicLong 하나 (GCRA : 다음 토큰이 채워지는 이론상 시각) 로 표현하여 lock 없이 CAS로 갱신
+// 버킷 map은 Caffeine (내부적으로 분할된 ConcurrentHashMap) 을 사용해 key별로 경합이 나뉘고,
+// 최대 개수와 미사용 시간으로 제거하여 메모리 사용량을 제한
+// 제거된 버킷은 가득 찬 상태로 다시 시작 - 오래 사용하지 않은 버킷은 어차피 가득 찬 상태
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private static final Function<String, AtomicLong> NEW_BUCKET = key -> new AtomicLong();
+
+    // nanoTime은 음수일 수 있으므로 생성 시점 기준의 상대 시간 사용 - 0이면 가득 찬 버킷
+    private final long origin = System.nanoTime();
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalRateLimitStore(long maximumSize, Duration expireAfterAccess) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        AtomicLong bucket = buckets.get(key, NEW_BUCKET);
+        long interval = policy.emissionIntervalNanos();
+        long tolerance = policy.burstToleranceNanos();
+        long now = System.nanoTime() - origin;
+
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long base = Math.max(theoreticalArrival, now);
+            long allowedAt = base - tolerance;
+            if (now < allowedAt) {
+                return allowedAt - now;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    // 현재 버킷 수
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
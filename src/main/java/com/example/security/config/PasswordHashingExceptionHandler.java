@@ -0,0 +1,38 @@
+package com.example.security.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 비밀번호 해싱이 포화 상태일 때 503 + Retry-After 응답
+@RestControllerAdvice
+public class PasswordHashingExceptionHandler {
+
+    // 클라이언트가 다시 시도할 때까지 기다릴 시간 (초)
+    @Value("${app.security.password-hashing.retry-after:1}")
+    private long retryAfterSeconds;
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> handleRejected() {
+        return serviceUnavailable();
+    }
+
+    // 존재하지 않는 사용자의 timing attack 방어용 해싱은 DaoAuthenticationProvider가 감싸서 던짐
+    @ExceptionHandler(InternalAuthenticationServiceException.class)
+    public ResponseEntity<Void> handleInternal(InternalAuthenticationServiceException e) {
+        if (e.getCause() instanceof PasswordHashingRejectedException) {
+            return serviceUnavailable();
+        }
+        throw e;
+    }
+
+    private ResponseEntity<Void> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+}
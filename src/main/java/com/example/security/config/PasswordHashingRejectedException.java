@@ -0,0 +1,9 @@
+package com.example.security.config;
+
+// 비밀번호 해싱 대기열이 가득 차서 요청을 거절할 때 발생
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException() {
+        super("Password hashing capacity exceeded");
+    }
+}
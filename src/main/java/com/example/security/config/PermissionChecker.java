@@ -0,0 +1,54 @@
+package com.example.security.config;
+
+import com.example.security.user.Permission;
+import com.example.security.user.Role;
+import com.example.security.user.User;
+import com.example.security.user.UserSnapshot;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+// @PreAuthorize에서 사용하는 권한 확인
+// 사용자의 Role을 알 수 있으면 문자열 비교 대신 bitmask로 확인
+// 예) @PreAuthorize("@authz.has(authentication, 'ADMIN_READ')")
+@Component("authz")
+public class PermissionChecker {
+
+    // 권한 보유 여부
+    public boolean has(Authentication authentication, Permission permission) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        Role role = roleOf(authentication);
+        if (role != null) {
+            return role.hasPermission(permission);
+        }
+        // Role을 알 수 없으면 기존처럼 authorities에서 확인
+        return authentication.getAuthorities().contains(permission.getAuthority());
+    }
+
+    // Role 보유 여부
+    public boolean hasRole(Authentication authentication, Role role) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        Role actual = roleOf(authentication);
+        if (actual != null) {
+            return actual == role;
+        }
+        return authentication.getAuthorities().contains(role.getRoleAuthority());
+    }
+
+    // 인증 정보의 Role - principal이 사용자 객체가 아니면 null
+    static Role roleOf(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserSnapshot user) {
+            return user.getRole();
+        }
+        if (principal instanceof User user) {
+            return user.getRole();
+        }
+        return null;
+    }
+}
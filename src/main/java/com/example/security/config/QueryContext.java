@@ -0,0 +1,37 @@
+package com.example.security.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+// 현재 thread에서 실행 중인 repository 메서드
+// slow query 로그에 어떤 repository 메서드가 실행한 SQL인지 남기기 위해 사용
+public final class QueryContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    // 실행 중인 repository 메서드 이름 (예 : TokenRepository.consume)
+    // repository 밖에서 실행된 SQL이면 null
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    // repository proxy에 추가하는 interceptor
+    // default 메서드가 다른 메서드를 호출해도 가장 바깥 메서드 이름을 유지
+    static MethodInterceptor interceptor(Class<?> repositoryInterface) {
+        String prefix = repositoryInterface.getSimpleName() + ".";
+        return (MethodInvocation invocation) -> {
+            if (CURRENT.get() != null) {
+                return invocation.proceed();
+            }
+            CURRENT.set(prefix + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.security.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+// 요청 수 제한 저장소 설정
+// 다른 RateLimitStore bean이 없으면 서버별 메모리 저장소 사용
+// 사용자 설정이 모두 등록된 뒤 조건을 확인하도록 auto-configuration으로 등록 (AutoConfiguration.imports)
+@AutoConfiguration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore rateLimitStore(
+            // 최대 버킷 수
+            @Value("${app.security.rate-limit.max-buckets:100000}") long maxBuckets,
+            // 이 시간 동안 사용하지 않은 버킷 제거 - 가장 긴 period 이상이어야 함
+            @Value("${app.security.rate-limit.bucket-idle-timeout:600000}") long bucketIdleTimeout
+    ) {
+        return new LocalRateLimitStore(maxBuckets, Duration.ofMillis(bucketIdleTimeout));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.security.config;
+
+// 요청 수 제한을 넘었을 때 발생
+public class RateLimitExceededException extends RuntimeException {
+
+    // 클라이언트가 다시 시도할 때까지 기다릴 시간 (초)
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("Rate limit exceeded");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
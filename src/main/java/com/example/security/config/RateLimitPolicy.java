@@ -0,0 +1,20 @@
+package com.example.security.config;
+
+// 토큰 버킷 설정 - period 동안 capacity 번까지 허용
+// capacity가 0이면 제한하지 않음
+public record RateLimitPolicy(int capacity, long periodMillis) {
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    // 토큰 하나가 다시 채워지는 시간
+    public long emissionIntervalNanos() {
+        return periodMillis * 1_000_000 / capacity;
+    }
+
+    // 한 번에 허용하는 요청 수 (capacity)만큼 앞당겨 사용할 수 있는 시간
+    public long burstToleranceNanos() {
+        return emissionIntervalNanos() * (capacity - 1);
+    }
+}
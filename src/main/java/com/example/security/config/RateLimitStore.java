@@ -0,0 +1,11 @@
+package com.example.security.config;
+
+// 요청 수 제한 버킷 저장소
+// 기본은 서버별 메모리 저장소 LocalRateLimitStore
+// 여러 서버가 같은 한도를 공유하려면 이 interface를 구현한 bean (Redis 등)을 등록하면 기본 bean을 대체
+public interface RateLimitStore {
+
+    // key의 버킷에서 토큰 하나 사용
+    // 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간 (nanos)
+    long tryAcquire(String key, RateLimitPolicy policy);
+}
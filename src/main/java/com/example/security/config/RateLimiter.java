@@ -0,0 +1,83 @@
+package com.example.security.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 인증 API 요청 수 제한
+// 클라이언트 IP별, 계정 이메일별 버킷을 따로 두고 둘 중 하나라도 넘으면 거절
+// 비밀번호 해싱, DB 조회 전에 확인하여 대량 로그인 시도가 CPU를 소모하지 않도록 함
+@Component
+@Slf4j
+public class RateLimiter {
+
+    // 제한 대상 API
+    public enum Endpoint {
+        AUTHENTICATE("authenticate"),
+        REGISTER("register"),
+        REFRESH_TOKEN("refresh-token");
+
+        private final String key;
+
+        Endpoint(String key) {
+            this.key = key;
+        }
+    }
+
+    private record Policies(RateLimitPolicy ip, RateLimitPolicy email) {
+    }
+
+    private final RateLimitStore store;
+    private final boolean enabled;
+    private final Map<Endpoint, Policies> policies = new EnumMap<>(Endpoint.class);
+
+    public RateLimiter(
+            RateLimitStore store,
+            Environment environment,
+            @Value("${app.security.rate-limit.enabled:true}") boolean enabled
+    ) {
+        this.store = store;
+        this.enabled = enabled;
+        // app.security.rate-limit.<endpoint>.ip-capacity, email-capacity, period
+        for (Endpoint endpoint : Endpoint.values()) {
+            String prefix = "app.security.rate-limit." + endpoint.key + ".";
+            long period = environment.getProperty(prefix + "period", Long.class, 60_000L);
+            policies.put(endpoint, new Policies(
+                    new RateLimitPolicy(environment.getProperty(prefix + "ip-capacity", Integer.class, 0), period),
+                    new RateLimitPolicy(environment.getProperty(prefix + "email-capacity", Integer.class, 0), period)
+            ));
+        }
+    }
+
+    // 한도를 넘으면 RateLimitExceededException
+    // email이 없으면 IP만 확인
+    public void check(Endpoint endpoint, String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+
+        Policies endpointPolicies = policies.get(endpoint);
+        if (clientIp != null && endpointPolicies.ip().isEnabled()) {
+            acquire(endpoint.key + ":ip:" + clientIp, endpointPolicies.ip());
+        }
+        if (email != null && endpointPolicies.email().isEnabled()) {
+            acquire(endpoint.key + ":email:" + email.toLowerCase(Locale.ROOT), endpointPolicies.email());
+        }
+    }
+
+    private void acquire(String key, RateLimitPolicy policy) {
+        long waitNanos = store.tryAcquire(key, policy);
+        if (waitNanos > 0) {
+            log.debug("Rate limit exceeded for {}", key);
+            // 올림하여 초 단위로
+            long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new RateLimitExceededException(retryAfter);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.security.config;
+
+import com.example.security.user.UserDetailsCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.logout.ServerLogoutHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.cors.CorsConfiguration;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.LoopResources;
+
+import java.util.Collections;
+import java.util.Optional;
+
+// WebFlux(Netty) 보안 설정
+// spring.main.web-application-type=reactive 일 때만 사용 (reactive profile)
+// 토큰 검증 위주의 gateway 노드에서 적은 event-loop thread로 많은 연결을 유지
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final CustomLogoutHandler customLogoutHandler;
+    // 요청 권한 규칙
+    private final CompiledAuthorizationManager requestAuthorizationManager;
+
+    // event-loop thread 수 - 기본값은 core 수
+    @Value("${app.security.reactive.event-loop-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int eventLoopThreads;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        http
+                // session stateless로 인해 꺼 둠
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                // session state는 저장되면 안되므로 저장소 사용 안 함
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                // 요청 권한 규칙 - servlet과 같은 lookup table 사용
+                .authorizeExchange((exchange) ->
+                        exchange.anyExchange().access((authentication, context) -> {
+                            ServerHttpRequest request = context.getExchange().getRequest();
+                            // value()는 encode된 값이므로 decode된 segment로 path를 만듦
+                            String path = CompiledAuthorizationManager.pathOf(request.getPath().pathWithinApplication());
+                            String method = request.getMethod().name();
+                            return authentication
+                                    .map(Optional::of)
+                                    .defaultIfEmpty(Optional.empty())
+                                    .map(auth -> decide(auth, path, method));
+                        }))
+
+                // jwt 필터 가동
+                .addFilterAt(new JwtAuthenticationWebFilter(jwtService, reactiveUserDetailsService()),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+
+                // cors 설정
+                .cors((cors) -> cors.configurationSource(reactiveCorsConfigurationSource()))
+
+                // logout 설정
+                .logout((logout) -> logout
+                        .logoutUrl("/api/v1/auth/logout")
+                        .logoutHandler(reactiveLogoutHandler())
+                        .logoutSuccessHandler((exchange, authentication) -> Mono.empty()));
+
+        return http.build();
+    }
+
+    // 요청 권한 결정
+    private AuthorizationDecision decide(Optional<Authentication> authentication, String path, String method) {
+        return requestAuthorizationManager.check(() -> authentication.orElse(null), path, method);
+    }
+
+    // ReactiveUserDetailsService
+    // 캐시에 있으면 바로 반환, 없으면 blocking JPA 조회를 별도 scheduler에서 실행
+    @Bean
+    public ReactiveUserDetailsService reactiveUserDetailsService() {
+        return username -> {
+            UserDetails cached = userDetailsCache.getIfPresent(username);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return Mono.fromCallable(() -> userDetailsService.loadUserByUsername(username))
+                    .subscribeOn(Schedulers.boundedElastic());
+        };
+    }
+
+    // 로그아웃 - 토큰 폐기와 Refresh Token 삭제는 DB 작업이므로 별도 scheduler에서 실행
+    private ServerLogoutHandler reactiveLogoutHandler() {
+        return (webFilterExchange, authentication) -> {
+            String authHeader = webFilterExchange.getExchange()
+                    .getRequest()
+                    .getHeaders()
+                    .getFirst(HttpHeaders.AUTHORIZATION);
+
+            // Authorization Header가 없으면 Access Token이 없으므로 failed
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return Mono.empty();
+            }
+
+            VerifiedToken verifiedToken = jwtService.verify(authHeader.substring(7));
+            return Mono.fromRunnable(() -> customLogoutHandler.logout(verifiedToken))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then();
+        };
+    }
+
+    // Netty 서버 - event-loop thread 수 제한
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server ->
+                server.runOn(LoopResources.create("jwt-gateway", eventLoopThreads, true)));
+        return factory;
+    }
+
+    // CORS 설정 - servlet 설정과 같음
+    @Bean
+    public CorsConfigurationSource reactiveCorsConfigurationSource() {
+        CorsConfiguration corsConfiguration = new CorsConfiguration();
+
+        // React client Origin을 허용
+        corsConfiguration.setAllowedOrigins(Collections.singletonList("http://localhost:3000"));
+        // React client로부터 오는 모든 메소드 허용
+        corsConfiguration.setAllowedMethods(Collections.singletonList("*"));
+        // React client로부터 오는 credential(cookie) 허용
+        corsConfiguration.setAllowCredentials(true);
+        // React client로부터 오는 모든 헤더를 허용
+        corsConfiguration.setAllowedHeaders(Collections.singletonList("*"));
+        corsConfiguration.setMaxAge(3600L);
+        // 클라이언트에 노출될 Authorization 헤더 설정
+        corsConfiguration.setExposedHeaders(Collections.singletonList("Authorization"));
+
+        // 모든 경로에 대해 CORS 설정 적용
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration);
+
+        return source;
+    }
+}
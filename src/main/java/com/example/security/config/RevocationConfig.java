@@ -0,0 +1,20 @@
+package com.example.security.config;
+
+import com.example.security.token.LoopbackRevocationEventBus;
+import com.example.security.token.RevocationEventBus;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+// 폐기 이벤트 버스 설정
+// 다른 RevocationEventBus bean이 없으면 같은 JVM 안에서만 전달하는 loopback 버스 사용
+// 사용자 설정이 모두 등록된 뒤 조건을 확인하도록 auto-configuration으로 등록 (AutoConfiguration.imports)
+@AutoConfiguration
+public class RevocationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RevocationEventBus.class)
+    public RevocationEventBus revocationEventBus() {
+        return new LoopbackRevocationEventBus();
+    }
+}
@@ -1,13 +1,10 @@
 package com.example.security.config;
 
-import com.example.security.user.Permission;
-import com.example.security.user.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -22,6 +19,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Collections;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 @RequiredArgsConstructor
 @EnableMethodSecurity // @PreAuthorize를 사용하기 위해 필요
@@ -33,9 +31,9 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
     private final CustomLogoutHandler customLogoutHandler;
+    // 요청 권한 규칙
+    private final CompiledAuthorizationManager requestAuthorizationManager;
 
-    private static final Role ADMIN = Role.ADMIN;
-    private static final Role MANAGER = Role.MANAGER;
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception{
 
@@ -43,33 +41,9 @@ public class SecurityConfig {
                 // session stateless로 인해 꺼 둠  
                 .csrf((auth)->auth.disable())
 
-                .authorizeRequests()
-
-                // 요청 제어
-                .requestMatchers("/api/v1/auth/**") // 나열된 요청들은  
-                .permitAll() // 모두 허용
-
-                // 권한이 필요한 요청 설정
-                // ManagementController
-                .requestMatchers("/api/v1/management/**").hasAnyRole(ADMIN.name(), MANAGER.name())
-
-                .requestMatchers(HttpMethod.GET, "/api/v1/management/**").hasAnyAuthority(Permission.ADMIN_READ.name(), Permission.MANAGER_READ.name())
-                .requestMatchers(HttpMethod.POST, "/api/v1/management/**").hasAnyAuthority(Permission.ADMIN_CREATE.name(), Permission.MANAGER_CREATE.name())
-                .requestMatchers(HttpMethod.PUT, "/api/v1/management/**").hasAnyAuthority(Permission.ADMIN_UPDATE.name(), Permission.MANAGER_UPDATE.name())
-                .requestMatchers(HttpMethod.DELETE, "/api/v1/management/**").hasAnyAuthority(Permission.ADMIN_DELETE.name(), Permission.MANAGER_DELETE.name())
-
-                // AdminController
-                // 주석 부분의 동작을 Annotation으로 똑같이 구현 가능
-//                .requestMatchers("/api/v1/admin").hasAnyRole(ADMIN.name())
-//
-//                .requestMatchers(HttpMethod.GET, "/api/v1/admin/**").hasAnyAuthority(Permission.ADMIN_READ.name())
-//                .requestMatchers(HttpMethod.POST, "/api/v1/admin/**").hasAnyAuthority(Permission.ADMIN_CREATE.name())
-//                .requestMatchers(HttpMethod.PUT, "/api/v1/admin/**").hasAnyAuthority(Permission.ADMIN_UPDATE.name())
-//                .requestMatchers(HttpMethod.DELETE, "/api/v1/admin/**").hasAnyAuthority(Permission.ADMIN_DELETE.name())
-
-                .anyRequest() // 그 외의 모든 요청은  
-                .authenticated() // 인증 필요  
-                .and()
+                // 요청 권한 규칙 - 기동 시 lookup table로 만들어 둔 규칙으로 결정
+                .authorizeHttpRequests((auth)->
+                        auth.anyRequest().access(requestAuthorizationManager))
                 .sessionManagement((session)->
                         session // session state는 저장되면 안되므로 stateless로 설정  
                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -0,0 +1,22 @@
+package com.example.security.config;
+
+import io.jsonwebtoken.JwtException;
+
+import java.util.concurrent.CompletableFuture;
+
+// 모르는 kid의 키를 DB에서 다시 읽는 중일 때 발생
+// event loop thread에선 기다리지 않으므로, 호출한 쪽에서 다시 읽기가 끝난 뒤 blocking 가능한 thread에서 다시 검증
+public class SigningKeyNotLoadedException extends JwtException {
+
+    // 진행 중인 다시 읽기
+    private final transient CompletableFuture<Void> reload;
+
+    public SigningKeyNotLoadedException(String kid, CompletableFuture<Void> reload) {
+        super("Signing key id is being loaded: " + kid);
+        this.reload = reload;
+    }
+
+    public CompletableFuture<Void> getReload() {
+        return reload;
+    }
+}
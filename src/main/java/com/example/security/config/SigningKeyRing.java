@@ -0,0 +1,411 @@
+package com.example.security.config;
+
+import com.example.security.token.SigningKey;
+import com.example.security.token.SigningKeyRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.DecodingException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+// kid로 구분하는 jwt 서명 키 목록
+// HS256 : app.security.jwt.secret-key 하나로 서명, 검증 (kid 없음)
+// ES256 : DB에 저장한 EC 키로 서명하고 rotation-interval마다 새 키 생성
+//         이전 키는 그 키로 서명한 토큰이 만료될 때까지 검증에 사용하고, 공개 키는 JWKS로 제공
+//         개인 키는 key-encryption-key로 암호화하여 저장
+//         secret-key가 설정되어 있으면 kid 없는 기존 HS256 토큰도 만료될 때까지 검증
+// DB 작업은 synchronized 대신 ReentrantLock으로 보호 - virtual thread가 carrier thread에 고정되지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SigningKeyRing extends SigningKeyResolverAdapter implements DisposableBean {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+
+    private final SigningKeyRepository signingKeyRepository;
+
+    // HS256 비밀 키
+    @Value("${app.security.jwt.secret-key:}")
+    private String secretKey;
+
+    // 서명 알고리즘 - HS256 또는 ES256
+    @Value("${app.security.jwt.signing.algorithm:HS256}")
+    private SignatureAlgorithm algorithm;
+
+    // 새 서명 키를 만드는 주기
+    @Value("${app.security.jwt.signing.rotation-interval:86400000}")
+    private long rotationInterval;
+
+    // 교체 시점을 확인하는 주기 - 키는 signUntil 이후에도 최대 이만큼 더 서명에 사용됨
+    @Value("${app.security.jwt.signing.rotation-check-interval:60000}")
+    private long rotationCheckInterval;
+
+    // DB에 저장하는 EC 개인 키를 암호화하는 AES-256 키 (base64)
+    // 설정 파일 대신 환경 변수나 secret manager(KMS)로 주입
+    @Value("${app.security.jwt.signing.key-encryption-key:}")
+    private String keyEncryptionKey;
+
+    // 모르는 kid로 DB에서 키를 다시 읽는 최소 간격
+    // 다른 서버가 만든 새 키를 찾기 위한 것으로, 인증 전에 실행되므로 kid와 관계없이 이 간격에 한 번만 조회
+    @Value("${app.security.jwt.signing.reload-interval:10000}")
+    private long reloadInterval;
+
+    // 요청 thread가 키를 다시 읽는 동안 기다리는 최대 시간
+    @Value("${app.security.jwt.signing.reload-timeout:2000}")
+    private long reloadTimeout;
+
+    // Refresh Token 만료기한 - 키를 검증에 사용하는 기간
+    @Value("${app.security.jwt.refresh-token-expiration}")
+    private long refreshTokenExpiration;
+
+    // 현재 서명 키
+    private volatile ActiveKey activeKey;
+    // kid -> 검증 키 - 교체할 때만 새 map으로 바꾸므로 조회는 lock 없이 상수 시간
+    private volatile Map<String, Key> verificationKeys = Map.of();
+    // kid 없는 HS256 토큰 검증 키
+    private Key legacyKey;
+    // 개인 키 암호화 키
+    private SecretKey kek;
+    // JWKS 응답 - 키가 바뀔 때만 새로 생성
+    private volatile Map<String, Object> jwks = Map.of("keys", List.of());
+    // 다음 다시 읽기가 가능한 시각 (System.nanoTime)
+    private final AtomicLong nextReloadNanos = new AtomicLong();
+    // 키 생성, 다시 읽기를 한 번에 하나만 실행
+    private final ReentrantLock lock = new ReentrantLock();
+    // 요청 중에 들어온 다시 읽기를 실행하는 thread
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "signing-key-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 서명에 사용하는 키
+    public record ActiveKey(String kid, Key key, SignatureAlgorithm algorithm, Instant signUntil) {
+    }
+
+    @PostConstruct
+    void init() {
+        this.nextReloadNanos.set(System.nanoTime());
+
+        if (algorithm.isHmac()) {
+            Key key = createSecretKey(secretKey);
+            this.activeKey = new ActiveKey(null, key, algorithm, Instant.MAX);
+            this.legacyKey = key;
+            return;
+        }
+        if (algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("Unsupported app.security.jwt.signing.algorithm: " + algorithm);
+        }
+
+        this.kek = createKeyEncryptionKey(keyEncryptionKey);
+
+        // 전환 기간 동안 기존 HS256 토큰 검증
+        if (secretKey != null && !secretKey.isBlank()) {
+            this.legacyKey = createSecretKey(secretKey);
+        }
+        rotateIfDue();
+    }
+
+    // 현재 서명 키
+    public ActiveKey signingKey() {
+        return activeKey;
+    }
+
+    // JWKS - 검증에 사용 중인 공개 키 목록
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    // jwt header의 kid로 검증 키 선택
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        if (algorithm.isHmac()) {
+            return activeKey.key();
+        }
+
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (legacyKey == null) {
+                throw new JwtException("Missing signing key id");
+            }
+            return legacyKey;
+        }
+
+        Key key = verificationKeys.get(kid);
+        if (key == null) {
+            // 다른 서버가 방금 만든 키일 수 있음
+            key = reloadFor(kid);
+        }
+        if (key == null) {
+            throw new JwtException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    // 모르는 kid - DB에서 키를 다시 읽고 찾기
+    // reload-interval 안에 이미 다시 읽었으면 기다리지 않고 현재 키로만 판단 - 임의의 kid로 DB 조회, 대기가 반복되지 않음
+    // event loop thread에선 기다리지 않고 SigningKeyNotLoadedException을 던져 호출한 쪽에서 끝난 뒤 다시 검증하도록 함
+    private Key reloadFor(String kid) {
+        long now = System.nanoTime();
+        long next = nextReloadNanos.get();
+        if (now - next < 0
+                || !nextReloadNanos.compareAndSet(next, now + TimeUnit.MILLISECONDS.toNanos(reloadInterval))) {
+            return verificationKeys.get(kid);
+        }
+
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(this::reload, reloadExecutor);
+        if (Schedulers.isInNonBlockingThread()) {
+            throw new SigningKeyNotLoadedException(kid, reload);
+        }
+
+        try {
+            reload.get(reloadTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Reloading jwt signing keys for kid={} failed", kid, e);
+            return null;
+        }
+        return verificationKeys.get(kid);
+    }
+
+    // 서명 키가 교체 시점이 되었으면 새 키 생성
+    // 다른 서버가 먼저 교체했다면 DB에서 읽은 키를 그대로 사용
+    @Scheduled(fixedDelayString = "${app.security.jwt.signing.rotation-check-interval:60000}")
+    public void rotateIfDue() {
+        if (algorithm.isHmac()) {
+            return;
+        }
+
+        reload();
+        ActiveKey current = activeKey;
+        if (current == null || Instant.now().isAfter(current.signUntil())) {
+            rotate();
+        }
+        signingKeyRepository.deleteExpired(Instant.now());
+    }
+
+    // 새 서명 키 생성
+    public void rotate() {
+        lock.lock();
+        try {
+            createKey();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void createKey() {
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        Instant now = Instant.now();
+        String kid = newKid();
+        SigningKey signingKey = SigningKey.builder()
+                .kid(kid)
+                .algorithm(algorithm.getValue())
+                // 개인 키는 암호화하여 저장
+                .privateKey(encrypt(kid, keyPair.getPrivate().getEncoded()))
+                .publicKey(keyPair.getPublic().getEncoded())
+                .createdAt(now)
+                // 서명에 사용하는 기간 + 교체 전까지 더 서명하는 기간 + 마지막으로 서명한 토큰의 만료기한
+                // 교체를 확인하는 서버, 새 키를 읽는 다른 서버가 각각 최대 rotation-check-interval 늦으므로 두 번 더함
+                .expiresAt(now.plusMillis(rotationInterval + 2 * rotationCheckInterval + refreshTokenExpiration))
+                .build();
+        signingKeyRepository.save(signingKey);
+        reload();
+        log.info("Rotated jwt signing key, new kid={}", signingKey.getKid());
+    }
+
+    // DB의 키로 서명 키, 검증 키, JWKS 갱신
+    private void reload() {
+        lock.lock();
+        try {
+            loadKeys();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loadKeys() {
+        List<SigningKey> keys = signingKeyRepository.findAllByExpiresAtAfterOrderByCreatedAtDesc(Instant.now());
+
+        Map<String, Key> publicKeys = new HashMap<>();
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (SigningKey key : keys) {
+            PublicKey publicKey = decodePublicKey(key.getPublicKey());
+            publicKeys.put(key.getKid(), publicKey);
+            jwkList.add(toJwk(key.getKid(), (ECPublicKey) publicKey));
+        }
+
+        if (!keys.isEmpty()) {
+            SigningKey newest = keys.get(0);
+            this.activeKey = new ActiveKey(
+                    newest.getKid(),
+                    decodePrivateKey(decrypt(newest.getKid(), newest.getPrivateKey())),
+                    SignatureAlgorithm.forName(newest.getAlgorithm()),
+                    newest.getCreatedAt().plusMillis(rotationInterval)
+            );
+        }
+        this.verificationKeys = Collections.unmodifiableMap(publicKeys);
+        this.jwks = Map.of("keys", Collections.unmodifiableList(jwkList));
+    }
+
+    // EC P-256 공개 키의 JWK 표현 (RFC 7518)
+    private static Map<String, Object> toJwk(String kid, ECPublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("x", base64Url(publicKey.getW().getAffineX()));
+        jwk.put("y", base64Url(publicKey.getW().getAffineY()));
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    // 좌표값을 부호 없는 32 byte로 인코딩
+    private static String base64Url(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, fixed.length);
+        System.arraycopy(bytes, bytes.length - length, fixed, fixed.length - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static String newKid() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static PublicKey decodePublicKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid stored public key", e);
+        }
+    }
+
+    // AES-GCM 암호화 - iv(12 byte) + 암호문, kid를 AAD로 사용하여 다른 row로 옮긴 값은 복호화되지 않음
+    private byte[] encrypt(String kid, byte[] plain) {
+        try {
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, kek, new GCMParameterSpec(GCM_TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(plain);
+
+            byte[] stored = new byte[iv.length + encrypted.length];
+            System.arraycopy(iv, 0, stored, 0, iv.length);
+            System.arraycopy(encrypted, 0, stored, iv.length, encrypted.length);
+            return stored;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt signing key", e);
+        }
+    }
+
+    private byte[] decrypt(String kid, byte[] stored) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, kek, new GCMParameterSpec(GCM_TAG_BITS, stored, 0, GCM_IV_LENGTH));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            return cipher.doFinal(stored, GCM_IV_LENGTH, stored.length - GCM_IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decrypt signing key " + kid
+                    + " - check app.security.jwt.signing.key-encryption-key", e);
+        }
+    }
+
+    // 개인 키 암호화 키 생성 - ES256에선 필수
+    private static SecretKey createKeyEncryptionKey(String keyEncryptionKey) {
+        if (keyEncryptionKey == null || keyEncryptionKey.isBlank()) {
+            throw new IllegalStateException("app.security.jwt.signing.key-encryption-key is required for ES256");
+        }
+
+        try {
+            byte[] keyBytes = Decoders.BASE64.decode(keyEncryptionKey);
+            if (keyBytes.length != 32) {
+                throw new IllegalStateException("app.security.jwt.signing.key-encryption-key must be 32 bytes");
+            }
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch (DecodingException e) {
+            throw new IllegalStateException("Invalid app.security.jwt.signing.key-encryption-key: " + e.getMessage(), e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid stored private key", e);
+        }
+    }
+
+    // jwt 서명에 사용하는 비밀 키 생성
+    private static Key createSecretKey(String secretKey) {
+        if (secretKey == null || secretKey.isBlank()) {
+            throw new IllegalStateException("app.security.jwt.secret-key is not configured");
+        }
+
+        try {
+            byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+            return Keys.hmacShaKeyFor(keyBytes);
+        } catch (DecodingException | WeakKeyException e) {
+            throw new IllegalStateException("Invalid app.security.jwt.secret-key: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        reloadExecutor.shutdown();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.security.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+// slow query 로그 설정
+// show-sql처럼 모든 SQL을 출력하지 않고 기준 시간을 넘는 SQL만 repository 메서드 이름과 함께 기록
+@Configuration
+@ConditionalOnProperty(name = "app.jpa.slow-query.enabled", havingValue = "true")
+public class SlowQueryConfig {
+
+    // DataSource를 SlowQueryDataSource로 감쌈
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(
+            @Value("${app.jpa.slow-query.threshold:200}") long thresholdMillis
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+                    return new SlowQueryDataSource(dataSource, thresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // repository proxy에 실행 중인 메서드 이름을 기록하는 interceptor 추가
+    // 가장 바깥에 두어 transaction commit 시점의 flush도 같은 메서드로 기록
+    @Bean
+    static BeanPostProcessor queryContextRepositoryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    0, QueryContext.interceptor(information.getRepositoryInterface()))
+                    ));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.security.config;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 실행 시간이 기준을 넘는 SQL만 JSON 한 줄로 기록하는 DataSource
+// Connection, Statement를 proxy로 감싸 execute 계열 메서드의 시간만 측정
+// 기준 이하의 SQL은 시간 측정 외의 비용이 없음
+@Slf4j
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final JsonStringEncoder JSON = JsonStringEncoder.getInstance();
+
+    // 기록 기준 시간
+    private final long thresholdNanos;
+
+    public SlowQueryDataSource(DataSource target, long thresholdMillis) {
+        super(target);
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection)
+        );
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            return switch (method.getName()) {
+                case "prepareCall" -> wrap(result, CallableStatement.class, (String) args[0]);
+                case "prepareStatement" -> wrap(result, PreparedStatement.class, (String) args[0]);
+                case "createStatement" -> wrap(result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private Object wrap(Object statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql)
+            );
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        // prepare 시점의 SQL - createStatement면 null
+        private final String sql;
+        // addBatch 호출 수
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                batchSize++;
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= thresholdNanos) {
+                    String statement = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+                    logSlowQuery(statement, elapsed, name.equals("executeBatch") ? batchSize : 0);
+                }
+                if (name.equals("executeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+    }
+
+    // {"event":"slow_query","repository":"...","durationMs":..,"batchSize":..,"sql":"..."}
+    private void logSlowQuery(String sql, long elapsedNanos, int batchSize) {
+        String repository = QueryContext.current();
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"event\":\"slow_query\",\"repository\":");
+        appendString(json, repository);
+        json.append(",\"durationMs\":").append(elapsedNanos / 1_000_000)
+                .append(",\"batchSize\":").append(batchSize)
+                .append(",\"thread\":");
+        appendString(json, Thread.currentThread().getName());
+        json.append(",\"sql\":");
+        appendString(json, sql);
+        json.append('}');
+        log.warn(json.toString());
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        JSON.quoteAsString(value, json);
+        json.append('"');
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
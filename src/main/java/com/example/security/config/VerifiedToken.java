@@ -0,0 +1,125 @@
+package com.example.security.config;
+
+import com.example.security.token.TokenDigest;
+import com.example.security.user.Permission;
+import com.example.security.user.Role;
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+// 서명 검증을 한 번 거친 토큰
+// 한 번의 parse 결과를 필터, 로그아웃 핸들러, 재발급 로직에서 함께 사용
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    // stateless 인증용 클레임 이름
+    static final String ROLE_CLAIM = "role";
+    static final String PERMISSION_CLAIM = "perm";
+    // Refresh Token family 클레임 이름
+    static final String FAMILY_CLAIM = "fam";
+
+    // 원본 jwt 문자열
+    private final String token;
+    // 사용자 이메일
+    private final String subject;
+    // 토큰 발행일
+    private final Date issuedAt;
+    // 만료기한
+    private final Date expiration;
+    // 토큰 식별자 (jti)
+    private final String id;
+    // 토큰에 담긴 Role - stateless 토큰이 아니면 null
+    private final String role;
+    // 토큰에 담긴 권한 bitmask
+    private final long permissionMask;
+    // 토큰에 담긴 권한 정보
+    private final Collection<String> authorities;
+    // Refresh Token family - 재발급된 토큰에만 존재
+    private final UUID familyId;
+    // 전체 클레임
+    private final Claims claims;
+    // 토큰 digest - 필요할 때 한 번만 계산
+    @Getter(AccessLevel.NONE)
+    private TokenDigest digest;
+
+    static VerifiedToken from(String token, Claims claims) {
+        return new VerifiedToken(
+                token,
+                claims.getSubject(),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                claims.getId(),
+                claims.get(ROLE_CLAIM, String.class),
+                extractPermissionMask(claims),
+                extractAuthorities(claims),
+                extractFamilyId(claims),
+                claims
+        );
+    }
+
+    // 토큰 digest - DB key와 폐기 인덱스 조회에 사용
+    public TokenDigest digest() {
+        if (digest == null) {
+            digest = TokenDigest.of(token);
+        }
+        return digest;
+    }
+
+    // 토큰 만료 확인
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    private static UUID extractFamilyId(Claims claims) {
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        return familyId == null ? null : UUID.fromString(familyId);
+    }
+
+    private static long extractPermissionMask(Claims claims) {
+        Number mask = claims.get(PERMISSION_CLAIM, Number.class);
+        return mask == null ? 0L : mask.longValue();
+    }
+
+    // role, perm 클레임으로 권한 목록 생성
+    // Role.getAuthorities()와 같은 형태 (권한들 + ROLE_)
+    private static Collection<String> extractAuthorities(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Number mask = claims.get(PERMISSION_CLAIM, Number.class);
+        if (role == null || mask == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> authorities = new ArrayList<>();
+        for (Permission permission : Permission.fromMask(mask.longValue())) {
+            authorities.add(permission.getPermission());
+        }
+        authorities.add("ROLE_" + role);
+        return Collections.unmodifiableList(authorities);
+    }
+
+    // role 클레임의 Role - 없거나 알 수 없는 값이면 null
+    public Role roleOrNull() {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // stateless 인증에 필요한 클레임이 있는지 확인
+    public boolean isStateless() {
+        return role != null;
+    }
+}
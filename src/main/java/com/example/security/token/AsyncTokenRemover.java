@@ -0,0 +1,25 @@
+package com.example.security.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// 사용자의 Refresh Token 삭제를 요청 thread 밖에서 실행
+// 로그인 응답은 기존 토큰 삭제를 기다리지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncTokenRemover {
+
+    private final TokenRepository tokenRepository;
+
+    // expiresBefore 이전에 만료되는 토큰만 삭제 - 이후 발급된 새 토큰은 유지
+    @Async
+    public void removeAllUserTokens(String email, Instant expiresBefore) {
+        int deleted = tokenRepository.deleteAllByEmailAndExpiresAtBefore(email, expiresBefore);
+        log.debug("Removed {} refresh tokens of {}", deleted, email);
+    }
+}
@@ -5,18 +5,49 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
 
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "blacklist")
-public class BlackList {
+@Table(name = "blacklist", indexes = {
+        // 만료된 row 정리용 index
+        @Index(name = "idx_blacklist_expires_at", columnList = "expiresAt")
+})
+public class BlackList implements Persistable<UUID> {
 
+    // Access Token 전체 대신 고정 길이 digest를 key로 사용
+    // TokenDigest.of(accessToken).toUuid()
     @Id
-    // ID는 자동 생성 전략 사용
-    @GeneratedValue(strategy = GenerationType.AUTO)
-    private Integer id;
-    private String accessToken;
+    @Column(columnDefinition = "binary(16)")
+    private UUID tokenDigest;
+    // Access Token 만료 시각
+    private Instant expiresAt;
+
+    // 새로 만든 항목 여부
+    // key를 직접 지정하므로 save()가 SELECT 없이 INSERT만 하도록 사용
+    @Transient
+    @Builder.Default
+    private boolean newEntry = true;
+
+    @Override
+    public UUID getId() {
+        return tokenDigest;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntry = false;
+    }
 }
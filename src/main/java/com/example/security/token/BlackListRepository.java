@@ -1,11 +1,24 @@
 package com.example.security.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
 
-public interface BlackListRepository extends JpaRepository<BlackList, Integer> {
+public interface BlackListRepository extends JpaRepository<BlackList, UUID> {
 
-    // Access Token으로 검색
-    Optional<BlackList> findByAccessToken(String token);
+    // 아직 만료되지 않은 항목 검색
+    List<BlackList> findAllByExpiresAtAfter(Instant now);
+
+    // 만료된 항목을 limit 개수만큼 삭제
+    // 긴 lock을 피하기 위해 batch 단위로 나누어 호출
+    @Transactional
+    @Modifying
+    @Query(value = "delete from blacklist where expires_at < :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
 }
@@ -0,0 +1,54 @@
+package com.example.security.token;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// TokenDigest용 Bloom filter
+// false면 확실히 없음, true면 있을 수도 있음
+// digest 자체가 SHA-256이므로 추가 hash 없이 double hashing으로 bit 위치 계산
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    // digest 추가
+    public void put(TokenDigest digest) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = indexOf(digest, i);
+            long mask = 1L << index;
+            bits.accumulateAndGet(index >>> 6, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    // digest 포함 가능성 확인
+    public boolean mightContain(TokenDigest digest) {
+        for (int i = 0; i < hashCount; i++) {
+            int index = indexOf(digest, i);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // i번째 hash의 bit 위치
+    private int indexOf(TokenDigest digest, int i) {
+        long combined = digest.high() + i * digest.low();
+        return (int) ((combined & Long.MAX_VALUE) % bitCount);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.security.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.ToIntBiFunction;
+
+// 만료된 BlackList, Token, TokenWatermark row 정리
+// 한 번에 batch-size 만큼만 삭제하여 긴 table lock을 피함
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiredTokenReaper {
+
+    private final BlackListRepository blackListRepository;
+    private final TokenRepository tokenRepository;
+    private final TokenWatermarkRepository tokenWatermarkRepository;
+
+    // 한 번의 delete로 삭제할 최대 row 수
+    @Value("${app.security.jwt.purge.batch-size:1000}")
+    private int batchSize;
+
+    // 주기적으로 만료된 row 삭제
+    @Scheduled(fixedDelayString = "${app.security.jwt.purge.interval:300000}")
+    public void purge() {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+
+        int blackListPurged = purgeInBatches(blackListRepository::deleteExpired, now);
+        int tokenPurged = purgeInBatches(tokenRepository::deleteExpired, now);
+        int watermarkPurged = purgeInBatches(tokenWatermarkRepository::deleteExpired, now);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Purged {} blacklist rows, {} token rows and {} watermark rows in {} ms",
+                blackListPurged, tokenPurged, watermarkPurged, elapsedMillis);
+    }
+
+    // batch 단위 삭제를 더 이상 지울 row가 없을 때까지 반복
+    // 각 batch는 별도의 transaction으로 실행
+    private int purgeInBatches(ToIntBiFunction<Instant, Integer> deleteExpired, Instant now) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = deleteExpired.applyAsInt(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
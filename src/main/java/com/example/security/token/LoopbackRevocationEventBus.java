@@ -0,0 +1,32 @@
+package com.example.security.token;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 같은 JVM 안의 listener에게 바로 전달하는 이벤트 버스
+// 단일 서버 배포의 기본값이며, 하나의 인스턴스를 여러 RevocationPropagator가 공유하면 여러 서버를 흉내낼 수 있음
+@Slf4j
+public class LoopbackRevocationEventBus implements RevocationEventBus {
+
+    private final List<Consumer<RevocationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(RevocationEvent event) {
+        for (Consumer<RevocationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                // 한 listener의 실패가 다른 listener와 발행한 쪽에 영향을 주지 않도록 함
+                log.warn("Revocation listener failed for {}", event.type(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RevocationEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.security.token;
+
+// 다른 서버로 전달하는 폐기 이벤트
+// 같은 이벤트를 여러 번 적용해도 결과가 같으므로 전송 계층은 중복 전달을 허용해도 됨
+public record RevocationEvent(
+        Type type,
+        // 이벤트를 보낸 서버
+        String origin,
+        // ACCESS_TOKEN : 폐기된 Access Token digest
+        TokenDigest digest,
+        // WATERMARK : 사용자 이메일
+        String email,
+        // ACCESS_TOKEN : 토큰 만료 시각, WATERMARK : 이 시각 이전에 발행된 토큰 무효 (epoch millis)
+        long epochMillis
+) {
+
+    public enum Type {
+        // Access Token 하나 폐기 (로그아웃)
+        ACCESS_TOKEN,
+        // 사용자의 기존 토큰 전체 무효화 (권한 변경, Refresh Token 재사용)
+        WATERMARK
+    }
+
+    public static RevocationEvent accessToken(String origin, TokenDigest digest, long expiresAt) {
+        return new RevocationEvent(Type.ACCESS_TOKEN, origin, digest, null, expiresAt);
+    }
+
+    public static RevocationEvent watermark(String origin, String email, long issuedBefore) {
+        return new RevocationEvent(Type.WATERMARK, origin, null, email, issuedBefore);
+    }
+}
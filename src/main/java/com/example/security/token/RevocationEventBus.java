@@ -0,0 +1,15 @@
+package com.example.security.token;
+
+import java.util.function.Consumer;
+
+// 폐기 이벤트 전송 계층
+// 기본은 같은 JVM 안에서만 전달하는 LoopbackRevocationEventBus
+// 여러 서버로 배포할 때는 이 interface를 구현한 bean (Redis pub/sub, Kafka 등)을 등록하면 기본 bean을 대체
+public interface RevocationEventBus {
+
+    // 다른 서버로 이벤트 전송 - 호출한 thread를 오래 막지 않아야 함
+    void publish(RevocationEvent event);
+
+    // 수신한 이벤트를 전달받을 listener 등록
+    void subscribe(Consumer<RevocationEvent> listener);
+}
@@ -0,0 +1,221 @@
+package com.example.security.token;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+// 폐기된 Access Token의 메모리 인덱스
+// 요청마다 blacklist 테이블을 조회하지 않도록 digest -> 만료 시각으로 보관
+// blacklist 테이블은 기동 시 로딩과 로그아웃 시 저장에만 사용
+// Bloom filter 조회 결과는 revocation.filter.lookups metric으로 제공 - 실제 오탐률 확인용
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationIndex {
+
+    // 오탐률을 판단할 최소 조회 수
+    private static final long MIN_REBUILD_SAMPLES = 1_000;
+
+    private final MeterRegistry meterRegistry;
+
+    // Access Token 만료기한 - Bloom filter 시간 구간의 크기로 사용
+    @Value("${app.security.jwt.access-token-expiration}")
+    private long windowMillis;
+
+    // 구간별 Bloom filter 예상 등록 수
+    @Value("${app.security.jwt.revocation-filter.expected-insertions:10000}")
+    private int expectedInsertions;
+
+    // Bloom filter 오탐률
+    @Value("${app.security.jwt.revocation-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 측정한 오탐률이 설정 오탐률의 이 배수를 넘으면 filter 재생성
+    @Value("${app.security.jwt.revocation-filter.rebuild-threshold:3}")
+    private double rebuildThreshold;
+
+    // token digest -> 토큰 만료 시각 (epoch millis)
+    private final Map<TokenDigest, Long> revoked = new ConcurrentHashMap<>();
+
+    // 만료 시각 구간 -> Bloom filter
+    // 구간이 지나면 filter 전체를 버림
+    private final Map<Long, BloomFilter> filters = new ConcurrentHashMap<>();
+
+    // 등록과 filter 재생성이 겹치지 않도록 쓰기에만 사용
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Bloom filter 통계
+    // negative : filter에서 바로 통과, hit : 실제 폐기 토큰, falsePositive : filter 오탐
+    private final LongAdder filterNegatives = new LongAdder();
+    private final LongAdder filterHits = new LongAdder();
+    private final LongAdder filterFalsePositives = new LongAdder();
+    // 지난 확인 시점의 통계 - 정리 작업 thread에서만 사용
+    private long checkedNegatives;
+    private long checkedFalsePositives;
+
+    // filter 조회 결과, 인덱스 크기 metric 등록
+    @PostConstruct
+    void registerMetrics() {
+        lookupCounter("negative", RevocationIndex::getFilterNegatives);
+        lookupCounter("hit", RevocationIndex::getFilterHits);
+        lookupCounter("false_positive", RevocationIndex::getFilterFalsePositives);
+        Gauge.builder("revocation.index.size", this, RevocationIndex::size)
+                .description("Revoked access tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    private void lookupCounter(String result, ToLongFunction<RevocationIndex> count) {
+        FunctionCounter.builder("revocation.filter.lookups", this, count::applyAsLong)
+                .description("Revocation Bloom filter lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 토큰 폐기 등록
+    public void revoke(String token, long expiresAt) {
+        revoke(TokenDigest.of(token), expiresAt);
+    }
+
+    // 토큰 폐기 등록 - DB에서 읽은 digest 사용
+    public void revoke(TokenDigest digest, long expiresAt) {
+        writeLock.lock();
+        try {
+            filterFor(expiresAt).put(digest);
+            revoked.put(digest, expiresAt);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 폐기 여부 확인 - DB 접근 없이 lock-free 조회
+    public boolean isRevoked(String token, long expiresAt) {
+        return isRevoked(TokenDigest.of(token), expiresAt);
+    }
+
+    // 폐기 여부 확인 - 미리 계산한 digest 사용
+    public boolean isRevoked(TokenDigest digest, long expiresAt) {
+        // 토큰 자체가 만료되었다면 폐기 여부를 볼 필요 없음
+        if (expiresAt < System.currentTimeMillis()) {
+            return false;
+        }
+
+        // Bloom filter에 없으면 확실히 폐기되지 않은 토큰
+        BloomFilter filter = filters.get(windowOf(expiresAt));
+        if (filter == null || !filter.mightContain(digest)) {
+            filterNegatives.increment();
+            return false;
+        }
+
+        // 있을 수도 있으면 정확한 인덱스 확인
+        if (revoked.containsKey(digest)) {
+            filterHits.increment();
+            return true;
+        }
+        filterFalsePositives.increment();
+        return false;
+    }
+
+    // 등록된 토큰 수
+    public int size() {
+        return revoked.size();
+    }
+
+    public long getFilterNegatives() {
+        return filterNegatives.sum();
+    }
+
+    public long getFilterHits() {
+        return filterHits.sum();
+    }
+
+    public long getFilterFalsePositives() {
+        return filterFalsePositives.sum();
+    }
+
+    // 인덱스 내용으로 Bloom filter 재생성
+    // 오탐률이 높아졌을 때 정리 작업에서 호출 - 구간별 실제 등록 수에 맞춰 크기를 다시 정함
+    public void rebuildFilters() {
+        Map<Long, BloomFilter> rebuilt = new ConcurrentHashMap<>();
+        writeLock.lock();
+        try {
+            Map<Long, Integer> counts = new HashMap<>();
+            revoked.values().forEach(expiresAt -> counts.merge(windowOf(expiresAt), 1, Integer::sum));
+            revoked.forEach((digest, expiresAt) -> rebuilt
+                    .computeIfAbsent(windowOf(expiresAt), window -> newFilter(counts.get(window)))
+                    .put(digest));
+
+            filters.putAll(rebuilt);
+            filters.keySet().retainAll(rebuilt.keySet());
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Rebuilt {} revocation filters for {} tokens", rebuilt.size(), revoked.size());
+    }
+
+    // 만료된 토큰 제거 - 메모리 사용량을 유효한 토큰 수로 제한
+    @Scheduled(fixedDelayString = "${app.security.jwt.revocation-purge-interval:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt < now);
+        // 현재 구간보다 이전 구간의 filter는 통째로 제거
+        filters.keySet().removeIf(window -> window < windowOf(now));
+
+        log.debug("Revocation index purged {} expired entries (filter negatives={}, hits={}, false positives={})",
+                before - revoked.size(), getFilterNegatives(), getFilterHits(), getFilterFalsePositives());
+
+        rebuildIfFalsePositiveRateHigh();
+    }
+
+    // 지난 확인 이후의 오탐률이 기준을 넘으면 filter 재생성
+    // 오탐률 = 폐기되지 않은 토큰 조회 중 filter가 통과시키지 못한 비율
+    private void rebuildIfFalsePositiveRateHigh() {
+        long negatives = getFilterNegatives();
+        long falsePositives = getFilterFalsePositives();
+        long newNegatives = negatives - checkedNegatives;
+        long newFalsePositives = falsePositives - checkedFalsePositives;
+        checkedNegatives = negatives;
+        checkedFalsePositives = falsePositives;
+
+        long samples = newNegatives + newFalsePositives;
+        if (samples < MIN_REBUILD_SAMPLES) {
+            return;
+        }
+        double observed = (double) newFalsePositives / samples;
+        if (observed > falsePositiveRate * rebuildThreshold) {
+            log.info("Revocation filter false positive rate {} exceeds {}, rebuilding",
+                    observed, falsePositiveRate * rebuildThreshold);
+            rebuildFilters();
+        }
+    }
+
+    private BloomFilter filterFor(long expiresAt) {
+        return filters.computeIfAbsent(windowOf(expiresAt), window -> newFilter());
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    // 등록 수가 예상보다 많은 구간은 여유를 두고 크게 생성
+    private BloomFilter newFilter(int insertions) {
+        return new BloomFilter(Math.max(expectedInsertions, insertions * 2), falsePositiveRate);
+    }
+
+    private long windowOf(long epochMillis) {
+        return epochMillis / windowMillis;
+    }
+}
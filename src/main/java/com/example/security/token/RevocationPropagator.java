@@ -0,0 +1,128 @@
+package com.example.security.token;
+
+import com.example.security.user.UserDetailsCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// 폐기 정보를 모든 서버의 메모리 인덱스에 반영
+// 폐기는 이 서버의 RevocationIndex, TokenWatermarks에 바로 적용하고 이벤트 버스로 다른 서버에 전달
+// transaction 안에서 호출되면 commit 후에 전달 - rollback된 폐기를 다른 서버가 적용하지 않음
+// 기동 시엔 DB의 blacklist, token_watermark로 놓친 폐기를 복원 (catch-up)
+// 요청 처리 중에는 DB를 조회하지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevocationPropagator {
+
+    // 기준 시각은 늦은 쪽을 유지
+    private static final String UPSERT_WATERMARK = """
+            insert into token_watermark (email, issued_before, expires_at) values (?, ?, ?)
+            on duplicate key update
+                issued_before = greatest(issued_before, values(issued_before)),
+                expires_at = greatest(expires_at, values(expires_at))
+            """;
+
+    // 이 서버 식별자 - 자신이 보낸 이벤트는 다시 적용하지 않음
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RevocationEventBus eventBus;
+    private final RevocationIndex revocationIndex;
+    private final TokenWatermarks tokenWatermarks;
+    private final BlackListRepository blackListRepository;
+    private final TokenWatermarkRepository tokenWatermarkRepository;
+    // 권한 변경 이벤트를 받으면 캐시된 사용자 정보도 제거
+    private final UserDetailsCache userDetailsCache;
+    // JPA entity listener 안에서도 호출되므로 EntityManager 대신 JDBC로 저장
+    private final JdbcTemplate jdbcTemplate;
+
+    // Access Token 만료기한 - 기준 시각을 보관하는 기간
+    @Value("${app.security.jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    // 구독 후 DB 복원
+    // 복원 중에 받은 이벤트와 겹쳐도 같은 결과이므로 순서를 맞출 필요 없음
+    @PostConstruct
+    void init() {
+        eventBus.subscribe(this::onEvent);
+        replay();
+    }
+
+    // DB에 저장된 폐기 정보를 메모리 인덱스로 로딩
+    public void replay() {
+        Instant now = Instant.now();
+
+        List<BlackList> blackLists = blackListRepository.findAllByExpiresAtAfter(now);
+        blackLists.forEach(blackList -> revocationIndex.revoke(
+                TokenDigest.from(blackList.getTokenDigest()),
+                blackList.getExpiresAt().toEpochMilli()
+        ));
+
+        List<TokenWatermark> watermarks = tokenWatermarkRepository.findAllByExpiresAtAfter(now);
+        watermarks.forEach(watermark -> tokenWatermarks.invalidateIssuedBefore(
+                watermark.getEmail(),
+                watermark.getIssuedBefore()
+        ));
+
+        log.info("Replayed {} revoked access tokens and {} token watermarks", blackLists.size(), watermarks.size());
+    }
+
+    // Access Token 폐기
+    // blacklist 저장은 호출한 쪽에서 처리 (write-behind 사용 여부에 따라 다름)
+    public void revokeAccessToken(TokenDigest digest, long expiresAt) {
+        revocationIndex.revoke(digest, expiresAt);
+        publishAfterCommit(RevocationEvent.accessToken(nodeId, digest, expiresAt));
+    }
+
+    // 사용자의 기존 토큰 전체 무효화 - 현재 transaction에서 기준 시각도 저장
+    public void invalidateIssuedBefore(String email, Instant issuedBefore) {
+        tokenWatermarks.invalidateIssuedBefore(email, issuedBefore);
+        jdbcTemplate.update(
+                UPSERT_WATERMARK,
+                email,
+                Timestamp.from(issuedBefore),
+                Timestamp.from(issuedBefore.plusMillis(accessTokenExpiration))
+        );
+        publishAfterCommit(RevocationEvent.watermark(nodeId, email, issuedBefore.toEpochMilli()));
+    }
+
+    // 진행 중인 transaction이 있으면 commit 후에 전송, 없으면 바로 전송
+    // 이 서버의 메모리 인덱스에는 이미 적용되어 있음 - rollback되어도 더 엄격한 쪽으로 남음
+    private void publishAfterCommit(RevocationEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventBus.publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventBus.publish(event);
+            }
+        });
+    }
+
+    // 다른 서버의 폐기 이벤트 적용
+    private void onEvent(RevocationEvent event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        switch (event.type()) {
+            case ACCESS_TOKEN -> revocationIndex.revoke(event.digest(), event.epochMillis());
+            case WATERMARK -> {
+                tokenWatermarks.invalidateIssuedBefore(event.email(), Instant.ofEpochMilli(event.epochMillis()));
+                // DB 조회 방식 인증은 캐시된 사용자 정보를 사용하므로 함께 제거 - 다음 요청에서 변경된 Role을 읽음
+                userDetailsCache.evict(event.email());
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.security.token;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// jwt 서명 키
+// 여러 서버가 같은 키를 사용하고, 재기동 후에도 기존 토큰을 검증할 수 있도록 DB에 저장
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "signing_key", indexes = {
+        // 만료된 키 정리용 index
+        @Index(name = "idx_signing_key_expires_at", columnList = "expiresAt")
+})
+public class SigningKey {
+
+    // jwt header의 kid
+    @Id
+    @Column(length = 32)
+    private String kid;
+    // 서명 알고리즘 (ES256)
+    @Column(length = 16)
+    private String algorithm;
+    // PKCS#8 개인 키 - key-encryption-key로 암호화 (iv + AES-GCM 암호문)
+    @Column(columnDefinition = "varbinary(512)")
+    private byte[] privateKey;
+    // X.509 공개 키
+    @Column(columnDefinition = "varbinary(256)")
+    private byte[] publicKey;
+    // 생성 시각 - 가장 최근 키로 서명
+    private Instant createdAt;
+    // 이 키로 서명한 토큰이 모두 만료되는 시각
+    // 이후엔 검증에도 사용하지 않고 삭제
+    private Instant expiresAt;
+}
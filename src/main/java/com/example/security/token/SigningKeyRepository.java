@@ -0,0 +1,22 @@
+package com.example.security.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    // 검증에 사용할 수 있는 키 - 최근 키 순
+    List<SigningKey> findAllByExpiresAtAfterOrderByCreatedAtDesc(Instant now);
+
+    // 만료된 키 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from SigningKey k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
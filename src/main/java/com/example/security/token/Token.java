@@ -1,22 +1,80 @@
 package com.example.security.token;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
 
 @Data
 @Entity // Entity임을 명시
 @Builder // for Object building
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "token") // DB에 테이블 이름 지정
-public class Token {
+@Table(name = "token", indexes = { // DB에 테이블 이름 지정
+        // 만료된 row 정리용 index
+        @Index(name = "idx_token_expires_at", columnList = "expiresAt"),
+        // 재사용 감지 시 같은 family 전체 제거용 index
+        @Index(name = "idx_token_family_id", columnList = "familyId"),
+        // 사용자의 모든 토큰 제거용 index
+        @Index(name = "idx_token_email", columnList = "email")
+})
+public class Token implements Persistable<UUID> {
 
+    // Refresh Token 전체 대신 고정 길이 digest를 key로 사용
+    // TokenDigest.of(refreshToken).toUuid()
     @Id
-    private String refreshToken;
+    @Column(columnDefinition = "binary(16)")
+    private UUID tokenDigest;
     private String email;
+    // Refresh Token 만료 시각
+    private Instant expiresAt;
+    // 같은 로그인에서 재발급된 토큰들의 묶음 - 첫 토큰의 digest
+    @Column(columnDefinition = "binary(16)")
+    private UUID familyId;
+    // 재발급에 사용된 토큰 여부 - 다시 사용되면 탈취로 간주
+    private boolean consumed;
+
+    // 새로 만든 토큰 여부
+    // key를 직접 지정하므로 save()가 SELECT 없이 INSERT만 하도록 사용
+    @Transient
+    @Builder.Default
+    private boolean newToken = true;
+
+    @Override
+    public UUID getId() {
+        return tokenDigest;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newToken;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newToken = false;
+    }
+
+    // 사용 처리된 복사본
+    public Token consumedCopy() {
+        return new Token(tokenDigest, email, expiresAt, familyId, true, newToken);
+    }
+
+    // 이미 저장된 상태의 복사본 - save()가 update로 처리
+    public Token persistedCopy() {
+        return new Token(tokenDigest, email, expiresAt, familyId, consumed, false);
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.security.token;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+// 토큰 문자열 대신 사용하는 고정 길이 digest
+// SHA-256의 앞 16 byte만 사용
+// DB에는 UUID(binary(16))로 저장
+public record TokenDigest(long high, long low) {
+
+    public static TokenDigest from(UUID uuid) {
+        return new TokenDigest(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static TokenDigest of(String token) {
+        ByteBuffer buffer = ByteBuffer.wrap(sha256(token));
+        return new TokenDigest(buffer.getLong(), buffer.getLong());
+    }
+
+    // DB key로 사용할 UUID
+    // UNHEX(LEFT(SHA2(token, 256), 32))와 같은 byte 순서
+    public UUID toUuid() {
+        return new UUID(high, low);
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            // MessageDigest는 thread-safe하지 않으므로 호출마다 생성
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
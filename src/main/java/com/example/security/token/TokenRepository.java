@@ -1,15 +1,47 @@
 package com.example.security.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.UUID;
 
-public interface TokenRepository extends JpaRepository<Token, String> {
+public interface TokenRepository extends JpaRepository<Token, UUID> {
 
-    // Refresh Token으로 검색
-    Optional<Token> findByRefreshToken(String token);
+    // 사용자의 Refresh Token 모두 삭제 - 한 번의 delete로 처리
+    @Transactional
+    @Modifying
+    @Query("delete from Token t where t.email = :email")
+    int deleteAllByEmail(@Param("email") String email);
 
-    // 사용자로 Refresh Token 검색
-    List<Token> findAllByEmail(String email);
+    // 사용자의 Refresh Token 중 만료 시각이 기준 이전인 토큰 삭제
+    // 비동기 삭제가 그 사이 새로 발급된 토큰을 지우지 않도록 사용
+    @Transactional
+    @Modifying
+    @Query("delete from Token t where t.email = :email and t.expiresAt < :expiresBefore")
+    int deleteAllByEmailAndExpiresAtBefore(@Param("email") String email, @Param("expiresBefore") Instant expiresBefore);
+
+    // Refresh Token 사용 처리 - compare-and-swap
+    // 아직 사용되지 않은 유효한 토큰일 때만 1을 반환하므로 동시 재발급 중 하나만 성공
+    @Transactional
+    @Modifying
+    @Query("update Token t set t.consumed = true " +
+            "where t.tokenDigest = :digest and t.email = :email and t.consumed = false and t.expiresAt > :now")
+    int consume(@Param("digest") UUID digest, @Param("email") String email, @Param("now") Instant now);
+
+    // 같은 family의 Refresh Token 모두 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from Token t where t.familyId = :familyId")
+    int deleteAllByFamilyId(@Param("familyId") UUID familyId);
+
+    // 만료된 Refresh Token을 limit 개수만큼 삭제
+    // 긴 lock을 피하기 위해 batch 단위로 나누어 호출
+    @Transactional
+    @Modifying
+    @Query(value = "delete from token where expires_at < :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
 }
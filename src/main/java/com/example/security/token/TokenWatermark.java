@@ -0,0 +1,34 @@
+package com.example.security.token;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 사용자별 토큰 무효화 기준 시각
+// 새로 기동한 서버가 TokenWatermarks를 복원할 수 있도록 저장
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "token_watermark", indexes = {
+        // 만료된 row 정리용 index
+        @Index(name = "idx_token_watermark_expires_at", columnList = "expiresAt")
+})
+public class TokenWatermark {
+
+    // 사용자 이메일
+    @Id
+    private String email;
+    // 이 시각 이전에 발행된 Access Token은 무효
+    private Instant issuedBefore;
+    // 기준 시각 이전에 발행된 Access Token이 모두 만료되는 시각
+    private Instant expiresAt;
+}
@@ -0,0 +1,22 @@
+package com.example.security.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenWatermarkRepository extends JpaRepository<TokenWatermark, String> {
+
+    // 아직 유효한 기준 시각 검색
+    List<TokenWatermark> findAllByExpiresAtAfter(Instant now);
+
+    // 만료된 항목을 limit 개수만큼 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "delete from token_watermark where expires_at < :now limit :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
+}
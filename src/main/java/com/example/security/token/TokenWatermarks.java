@@ -0,0 +1,43 @@
+package com.example.security.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 "이 시각 이전에 발행된 토큰은 무효" 기준
+// stateless 인증에서 권한 변경 시 기존 Access Token을 무효화하는 데 사용
+@Component
+public class TokenWatermarks {
+
+    // Access Token 만료기한 - 이보다 오래된 기준은 의미가 없으므로 제거
+    @Value("${app.security.jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    // 사용자 이메일 -> 기준 시각 (epoch seconds로 내림, jwt iat와 같은 단위)
+    private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+    // 지금 이전에 발행된 토큰을 무효화
+    public void invalidateIssuedBefore(String email, Instant instant) {
+        watermarks.merge(email, instant.getEpochSecond(), Math::max);
+    }
+
+    // 기준 시각 이전에 발행된 토큰인지 확인
+    // iat는 초 단위이므로 기준 시각과 같은 초에 발행된 토큰도 무효로 처리
+    public boolean isIssuedBeforeWatermark(String email, Date issuedAt) {
+        Long watermark = watermarks.get(email);
+        return watermark != null
+                && (issuedAt == null || issuedAt.toInstant().getEpochSecond() <= watermark);
+    }
+
+    // 기준 시각 이후 발행된 Access Token까지 모두 만료된 항목 제거
+    @Scheduled(fixedDelayString = "${app.security.jwt.revocation-purge-interval:60000}")
+    public void purgeExpired() {
+        long threshold = Instant.now().minusMillis(accessTokenExpiration).getEpochSecond();
+        watermarks.values().removeIf(watermark -> watermark < threshold);
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.security.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Token, BlackList 쓰기를 모아서 한 번에 처리하는 write-behind 버퍼
+// 쓰기 요청은 순서대로 queue에 쌓이고, batch-size 또는 flush-interval마다 하나의 transaction으로 저장
+// flush 전에도 검증이 맞도록 아직 저장되지 않은 토큰, 삭제 예정 정보를 메모리에 보관 (read-your-writes)
+// blacklist는 RevocationIndex에 바로 반영되므로 별도 overlay가 필요 없음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenWriteBehind implements DisposableBean {
+
+    private final TokenRepository tokenRepository;
+    private final BlackListRepository blackListRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // write-behind 사용 여부
+    @Value("${app.security.jwt.write-behind.enabled:false}")
+    private boolean enabled;
+
+    // 이 개수만큼 쌓이면 바로 flush
+    @Value("${app.security.jwt.write-behind.batch-size:500}")
+    private int batchSize;
+
+    // flush 실패 시 재시도 횟수 - 넘으면 해당 쓰기를 버리고 메모리 정보도 정리
+    @Value("${app.security.jwt.write-behind.max-retries:5}")
+    private int maxRetries;
+
+    // 재시도 대기 시간 - 실패할 때마다 두 배, retry-max-delay까지
+    @Value("${app.security.jwt.write-behind.retry-delay:500}")
+    private long retryDelayMillis;
+
+    @Value("${app.security.jwt.write-behind.retry-max-delay:30000}")
+    private long retryMaxDelayMillis;
+
+    // 쓰기 작업 - 들어온 순서대로 실행
+    private sealed interface Operation permits SaveToken, SaveBlackList, RemoveUserTokens, RemoveFamily {
+    }
+
+    private record SaveToken(Token token) implements Operation {
+    }
+
+    private record SaveBlackList(BlackList blackList) implements Operation {
+    }
+
+    private record RemoveUserTokens(String email, Instant expiresBefore) implements Operation {
+    }
+
+    private record RemoveFamily(UUID familyId) implements Operation {
+    }
+
+    private final Queue<Operation> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    // 아직 저장되지 않은 Refresh Token - digest -> Token
+    private final Map<UUID, Token> pendingTokens = new ConcurrentHashMap<>();
+    // 아직 실행되지 않은 사용자 토큰 삭제 - email -> 이 시각 전에 만료되는 토큰 삭제
+    private final Map<String, Instant> pendingUserRemovals = new ConcurrentHashMap<>();
+    // 아직 실행되지 않은 family 삭제
+    private final Set<UUID> pendingFamilyRemovals = ConcurrentHashMap.newKeySet();
+
+    // flush는 한 번에 하나만 실행
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 실패하여 재시도할 쓰기 작업 - 순서 유지를 위해 새 작업보다 먼저 실행 (flushLock 안에서만 접근)
+    private List<Operation> retryOperations = List.of();
+    private int failedAttempts;
+    private long retryAtNanos;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Refresh Token 저장 예약
+    public void saveToken(Token token) {
+        pendingTokens.put(token.getTokenDigest(), token);
+        enqueue(new SaveToken(token));
+    }
+
+    // BlackList 저장 예약
+    public void saveBlackList(BlackList blackList) {
+        enqueue(new SaveBlackList(blackList));
+    }
+
+    // 사용자의 Refresh Token 삭제 예약
+    // expiresBefore 이전에 만료되는 토큰만 삭제 - 이후 발급된 새 토큰은 유지
+    public void removeAllUserTokens(String email, Instant expiresBefore) {
+        pendingUserRemovals.merge(email, expiresBefore, (a, b) -> a.isAfter(b) ? a : b);
+        pendingTokens.values().removeIf(token ->
+                email.equals(token.getEmail()) && token.getExpiresAt().isBefore(expiresBefore));
+        enqueue(new RemoveUserTokens(email, expiresBefore));
+    }
+
+    // 같은 family의 Refresh Token 삭제 예약
+    public void removeTokenFamily(UUID familyId) {
+        pendingFamilyRemovals.add(familyId);
+        pendingTokens.values().removeIf(token -> familyId.equals(token.getFamilyId()));
+        enqueue(new RemoveFamily(familyId));
+    }
+
+    // 삭제 예정인 family인지 확인
+    public boolean isPendingFamilyRemoval(UUID familyId) {
+        return familyId != null && pendingFamilyRemovals.contains(familyId);
+    }
+
+    // DB에 저장된 토큰이 삭제 예정인지 확인
+    // delete와 같이 저장된 row의 만료 시각과 비교 - 삭제 예약 뒤에 저장된 토큰은 기준보다 늦게 만료되어 유지됨
+    // JWT exp는 초 단위로 잘리고 서명 시각 기준이므로 비교에 사용하지 않음
+    // 삭제가 예약된 사용자일 때만 row를 조회
+    public boolean isPendingUserRemoval(String email, UUID digest) {
+        Instant expiresBefore = pendingUserRemovals.get(email);
+        if (expiresBefore == null) {
+            return false;
+        }
+        return tokenRepository.findById(digest)
+                .map(token -> token.getExpiresAt().isBefore(expiresBefore))
+                .orElse(false);
+    }
+
+    // 아직 저장되지 않은 Refresh Token 사용 처리
+    // 버퍼에 없으면 null - DB에서 확인해야 함
+    // 사용 처리에 성공하면 true, 이미 사용된 토큰이면 false
+    public Boolean consumePending(UUID digest, String email, Instant now) {
+        Boolean[] result = new Boolean[1];
+        pendingTokens.computeIfPresent(digest, (key, token) -> {
+            if (!email.equals(token.getEmail()) || !token.getExpiresAt().isAfter(now)) {
+                result[0] = Boolean.FALSE;
+                return token;
+            }
+            if (token.isConsumed()) {
+                result[0] = Boolean.FALSE;
+                return token;
+            }
+            result[0] = Boolean.TRUE;
+            return token.consumedCopy();
+        });
+        return result[0];
+    }
+
+    // 아직 저장되지 않은 Refresh Token이 이미 사용되었는지 확인
+    public boolean isPendingConsumed(UUID digest) {
+        Token token = pendingTokens.get(digest);
+        return token != null && token.isConsumed();
+    }
+
+    private void enqueue(Operation operation) {
+        queue.add(operation);
+        if (queued.incrementAndGet() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    // 쌓인 쓰기 작업을 하나의 transaction으로 저장
+    // 같은 종류의 연속된 저장은 saveAll로 묶어 JDBC batch로 실행
+    @Scheduled(fixedDelayString = "${app.security.jwt.write-behind.flush-interval:200}")
+    public void flush() {
+        flush(false);
+    }
+
+    // force면 재시도 대기 시간을 기다리지 않음 (종료 시)
+    private void flush(boolean force) {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            if (queue.isEmpty() && retryOperations.isEmpty()) {
+                return;
+            }
+            // 실패한 작업의 재시도 시각 전이면 뒤의 작업도 실행하지 않음 - 순서 유지
+            if (!force && !retryOperations.isEmpty() && System.nanoTime() - retryAtNanos < 0) {
+                return;
+            }
+
+            List<Operation> operations = new ArrayList<>(retryOperations);
+            int polled = 0;
+            Operation operation;
+            while ((operation = queue.poll()) != null) {
+                operations.add(operation);
+                polled++;
+            }
+            queued.addAndGet(-polled);
+
+            long start = System.nanoTime();
+            try {
+                transactionTemplate.executeWithoutResult(status -> execute(operations));
+            } catch (RuntimeException e) {
+                retry(operations, e);
+                return;
+            }
+            retryOperations = List.of();
+            failedAttempts = 0;
+            afterFlush(operations);
+            log.debug("Flushed {} token writes in {} ms", operations.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 실패한 작업을 다음 flush에서 다시 실행
+    // 재시도 횟수를 넘으면 버리고 메모리에 남은 정보를 정리
+    private void retry(List<Operation> operations, RuntimeException e) {
+        failedAttempts++;
+        if (failedAttempts > maxRetries) {
+            log.error("Token write-behind flush failed {} times, dropping {} writes",
+                    failedAttempts, operations.size(), e);
+            retryOperations = List.of();
+            failedAttempts = 0;
+            discard(operations);
+            return;
+        }
+
+        long delay = Math.min(retryDelayMillis << Math.min(failedAttempts - 1, 20), retryMaxDelayMillis);
+        log.warn("Token write-behind flush of {} writes failed (attempt {}/{}), retrying in {} ms",
+                operations.size(), failedAttempts, maxRetries, delay, e);
+        retryOperations = operations;
+        retryAtNanos = System.nanoTime() + delay * 1_000_000;
+    }
+
+    private void execute(List<Operation> operations) {
+        List<Token> tokens = new ArrayList<>();
+        List<BlackList> blackLists = new ArrayList<>();
+
+        for (Operation operation : operations) {
+            switch (operation) {
+                case SaveToken saveToken -> tokens.add(saveToken.token());
+                case SaveBlackList saveBlackList -> blackLists.add(saveBlackList.blackList());
+                case RemoveUserTokens remove -> {
+                    // 삭제 전에 앞서 쌓인 저장을 먼저 실행하여 순서 유지
+                    saveAll(tokens, blackLists);
+                    tokenRepository.deleteAllByEmailAndExpiresAtBefore(remove.email(), remove.expiresBefore());
+                }
+                case RemoveFamily remove -> {
+                    saveAll(tokens, blackLists);
+                    tokenRepository.deleteAllByFamilyId(remove.familyId());
+                }
+            }
+        }
+        saveAll(tokens, blackLists);
+    }
+
+    private void saveAll(List<Token> tokens, List<BlackList> blackLists) {
+        if (!tokens.isEmpty()) {
+            tokenRepository.saveAll(tokens);
+            tokens.clear();
+        }
+        if (!blackLists.isEmpty()) {
+            blackListRepository.saveAll(blackLists);
+            blackLists.clear();
+        }
+    }
+
+    // 저장이 끝난 항목을 메모리에서 제거
+    private void afterFlush(List<Operation> operations) {
+        for (Operation operation : operations) {
+            switch (operation) {
+                case SaveToken saveToken -> {
+                    Token flushed = saveToken.token();
+                    pendingTokens.computeIfPresent(flushed.getTokenDigest(), (key, current) -> {
+                        if (current == flushed) {
+                            return null;
+                        }
+                        // flush 중에 사용 처리된 토큰은 update로 한 번 더 저장
+                        Token next = current.persistedCopy();
+                        enqueue(new SaveToken(next));
+                        return next;
+                    });
+                }
+                case RemoveUserTokens remove -> pendingUserRemovals.remove(remove.email(), remove.expiresBefore());
+                case RemoveFamily remove -> pendingFamilyRemovals.remove(remove.familyId());
+                case SaveBlackList saveBlackList -> {
+                    // RevocationIndex에 이미 반영되어 있음
+                }
+            }
+        }
+    }
+
+    // 버린 작업의 메모리 정보 정리
+    // 저장되지 않은 토큰은 버퍼에서 제거, 실행되지 않은 삭제는 더 이상 토큰을 막지 않음
+    private void discard(List<Operation> operations) {
+        for (Operation operation : operations) {
+            switch (operation) {
+                case SaveToken saveToken -> pendingTokens.remove(saveToken.token().getTokenDigest());
+                case RemoveUserTokens remove -> pendingUserRemovals.remove(remove.email(), remove.expiresBefore());
+                case RemoveFamily remove -> pendingFamilyRemovals.remove(remove.familyId());
+                case SaveBlackList saveBlackList -> {
+                    // RevocationIndex에는 남아 있으므로 이 서버가 실행되는 동안은 폐기 상태 유지
+                }
+            }
+        }
+    }
+
+    // 종료 시 남은 쓰기 저장
+    @Override
+    public void destroy() {
+        flush(true);
+        flusher.shutdown();
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.security.user;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
-@RequiredArgsConstructor
 public enum Permission {
 
     ADMIN_READ("admin:read"),
@@ -18,4 +23,52 @@ public enum Permission {
 
     @Getter
     private final String permission;
+
+    // 미리 만들어 둔 GrantedAuthority
+    @Getter
+    private final SimpleGrantedAuthority authority;
+
+    // 권한 문자열 -> Permission
+    private static final Map<String, Permission> BY_PERMISSION = new HashMap<>();
+
+    static {
+        for (Permission permission : values()) {
+            BY_PERMISSION.put(permission.getPermission(), permission);
+        }
+    }
+
+    Permission(String permission) {
+        this.permission = permission;
+        this.authority = new SimpleGrantedAuthority(permission);
+    }
+
+    // 권한 문자열로 Permission 찾기 - 없으면 null
+    public static Permission fromPermission(String permission) {
+        return BY_PERMISSION.get(permission);
+    }
+
+    // bitmask에서 이 권한의 bit
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    // 권한 목록을 bitmask로 변환
+    public static long toMask(Collection<Permission> permissions) {
+        long mask = 0L;
+        for (Permission permission : permissions) {
+            mask |= permission.mask();
+        }
+        return mask;
+    }
+
+    // bitmask를 권한 목록으로 변환
+    public static Set<Permission> fromMask(long mask) {
+        Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+        for (Permission permission : values()) {
+            if ((mask & permission.mask()) != 0) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.security.user;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// PooledIdGenerator로 id를 생성
+// 할당 크기 : spring.jpa.properties.hibernate.id.pooled_allocation_size
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+
+    // sequence 이름 (sequence가 없는 DB에선 테이블 이름)
+    String sequenceName();
+}
@@ -1,54 +1,76 @@
 package com.example.security.user;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 public enum Role {
-    USER(Collections.emptySet()),
+    USER,
     ADMIN(
-            Set.of(
-                    Permission.ADMIN_READ,
-                    Permission.ADMIN_UPDATE,
-                    Permission.ADMIN_CREATE,
-                    Permission.ADMIN_DELETE,
-                    Permission.MANAGER_READ,
-                    Permission.MANAGER_UPDATE,
-                    Permission.MANAGER_CREATE,
-                    Permission.MANAGER_DELETE
-            )
+            Permission.ADMIN_READ,
+            Permission.ADMIN_UPDATE,
+            Permission.ADMIN_CREATE,
+            Permission.ADMIN_DELETE,
+            Permission.MANAGER_READ,
+            Permission.MANAGER_UPDATE,
+            Permission.MANAGER_CREATE,
+            Permission.MANAGER_DELETE
     ),
     MANAGER(
-            Set.of(
-                    Permission.MANAGER_READ,
-                    Permission.MANAGER_UPDATE,
-                    Permission.MANAGER_CREATE,
-                    Permission.MANAGER_DELETE
-            )
+            Permission.MANAGER_READ,
+            Permission.MANAGER_UPDATE,
+            Permission.MANAGER_CREATE,
+            Permission.MANAGER_DELETE
     );
 
     @Getter
     // 중복 없이 권한 정보 가져오기
     private final Set<Permission> permissions;
 
+    @Getter
+    // 권한 bitmask - stateless 토큰의 perm 클레임과 권한 확인에 사용
+    private final long permissionMask;
+
+    @Getter
+    // ROLE_ prefix가 붙은 권한
+    private final SimpleGrantedAuthority roleAuthority;
+
+    // 미리 만들어 둔 Authorities - 요청마다 새로 만들지 않음
+    private final List<SimpleGrantedAuthority> authorities;
+
+    Role(Permission... permissions) {
+        Set<Permission> set = EnumSet.noneOf(Permission.class);
+        Collections.addAll(set, permissions);
+        this.permissions = Collections.unmodifiableSet(set);
+        this.permissionMask = Permission.toMask(set);
+
+        List<SimpleGrantedAuthority> list = new ArrayList<>();
+        // spring에서 role = authorities
+        set.forEach(permission -> list.add(permission.getAuthority()));
+        // prefix로 ROLE_을 추가한 권한을 마지막에 추가
+        this.roleAuthority = new SimpleGrantedAuthority("ROLE_" + name());
+        list.add(roleAuthority);
+        this.authorities = Collections.unmodifiableList(list);
+    }
+
     // Authorities 가져오기
     // user에 getAuthorities에서도 사용
     public List<SimpleGrantedAuthority> getAuthorities() {
-        var authorities = getPermissions()
-                .stream()
-                // spring에서 role = authorities
-                .map(permission -> new SimpleGrantedAuthority(permission.getPermission()))
-                .collect(Collectors.toList());
-        
-        // prefix로 ROLE_을 추가한 권한을 마지막에 추가
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + this.name()));
-        System.out.println(authorities.toString());
         return authorities;
     }
+
+    // Role bitmask에서 이 Role의 bit
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    // 권한 보유 여부 - 문자열 비교 없이 bit 연산으로 확인
+    public boolean hasPermission(Permission permission) {
+        return (permissionMask & permission.mask()) != 0;
+    }
 }
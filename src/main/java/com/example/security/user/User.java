@@ -6,11 +6,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.Objects;
 
 @Data
 @Entity // Entity임을 명시
@@ -18,11 +17,14 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "user") // DB에 테이블 이름 지정
+@EntityListeners(UserCacheInvalidator.class) // 변경 시 캐시 제거
 public class User implements UserDetails {
     // Spring Security의 UserDetails
 
     @Id // id로 지정
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    // pooled 생성기로 id를 미리 할당받아 insert를 batch로 실행
+    // 할당 크기 : spring.jpa.properties.hibernate.id.pooled_allocation_size
+    @PooledId(sequenceName = "user_seq")
     private Long id;
     private String firstname;
     private String lastname;
@@ -33,6 +35,27 @@ public class User implements UserDetails {
     // EnumType.STRING은 String value 순으로 정렬
     private Role role;
 
+    // 마지막으로 읽거나 저장한 role, password
+    // update에서 권한이나 비밀번호가 바뀌었는지 확인하는 데 사용 (UserCacheInvalidator)
+    @Transient
+    private Role persistedRole;
+    @Transient
+    private String persistedPassword;
+
+    // 권한이나 비밀번호가 바뀌었는지 확인
+    // Entity listener(UserCacheInvalidator)의 callback이 markPersisted보다 먼저 실행되므로 @PostUpdate에서 이전 값과 비교 가능
+    public boolean credentialsChanged() {
+        return role != persistedRole || !Objects.equals(password, persistedPassword);
+    }
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void markPersisted() {
+        this.persistedRole = role;
+        this.persistedPassword = password;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // 권한 List를 반환
@@ -0,0 +1,47 @@
+package com.example.security.user;
+
+import com.example.security.token.RevocationPropagator;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// User 저장, 변경, 삭제 시 캐시 제거
+// 권한이나 비밀번호 변경, 삭제 시엔 기존 stateless Access Token도 무효화 - 다른 서버에도 전달
+// Spring Boot가 Hibernate에 SpringBeanContainer를 등록하므로 bean 주입 가능
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator {
+
+    private final UserDetailsCache userDetailsCache;
+    // EntityManagerFactory 생성 중에 만들어지는 bean이므로 repository에 의존하는 bean은 사용 시점에 조회
+    private final ObjectProvider<RevocationPropagator> revocationPropagator;
+
+    @PostPersist
+    public void evict(User user) {
+        userDetailsCache.evict(user.getEmail());
+    }
+
+    // 권한이나 비밀번호가 바뀐 update만 기존 토큰 무효화 - 이름 변경 등으로 로그인이 풀리지 않음
+    @PostUpdate
+    public void invalidateIfCredentialsChanged(User user) {
+        userDetailsCache.evict(user.getEmail());
+        if (user.credentialsChanged()) {
+            invalidateTokens(user);
+        }
+    }
+
+    @PostRemove
+    public void invalidate(User user) {
+        userDetailsCache.evict(user.getEmail());
+        invalidateTokens(user);
+    }
+
+    private void invalidateTokens(User user) {
+        revocationPropagator.getObject().invalidateIssuedBefore(user.getEmail(), Instant.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.security.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증 필터에서 사용하는 사용자 정보 캐시
+// 요청마다 user 테이블을 조회하지 않도록 크기와 TTL이 제한된 캐시 사용
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.security.user-cache.expire-after-write:300000}") long expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+                .recordStats()
+                .build();
+        // hit ratio, eviction 등 metric 등록 - cache.gets, cache.evictions
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    // 캐시 조회 - 없으면 loader로 조회 후 저장
+    public UserSnapshot get(String email, Function<String, UserSnapshot> loader) {
+        return cache.get(email, loader);
+    }
+
+    // 캐시 조회 - 없으면 null, DB 조회 없음
+    public UserSnapshot getIfPresent(String email) {
+        return cache.getIfPresent(email);
+    }
+
+    // 사용자 정보 변경, 로그아웃 시 캐시에서 제거
+    public void evict(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.security.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +16,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Optional : 값이 있을수도 없을 수도 있는 null로 인한
     // NullPointerException을 방지할 수 있는 Java 8 클래스
     Optional<User> findByEmail(String email);
+
+    // 이미 등록된 이메일 조회 - 일괄 등록 시 중복 확인을 한 번의 query로 처리
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 비밀번호만 변경
+    // 다시 해싱한 비밀번호 저장용 - 권한 변경이 아니므로 Entity listener를 거치지 않는 update 사용
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
 }
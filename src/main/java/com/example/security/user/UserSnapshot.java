@@ -0,0 +1,45 @@
+package com.example.security.user;
+
+import lombok.Value;
+import lombok.With;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+// 캐시에 보관하는 사용자 정보
+// JPA Entity 대신 변경 불가능한 값만 보관
+@Value
+public class UserSnapshot implements UserDetails {
+
+    String email;
+    @With
+    String password;
+    Role role;
+    boolean accountNonExpired;
+    boolean accountNonLocked;
+    boolean credentialsNonExpired;
+    boolean enabled;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getEmail(),
+                user.getPassword(),
+                user.getRole(),
+                user.isAccountNonExpired(),
+                user.isAccountNonLocked(),
+                user.isCredentialsNonExpired(),
+                user.isEnabled()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
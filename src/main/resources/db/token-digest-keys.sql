@@ -0,0 +1,49 @@
+-- token, blacklist 테이블의 key를 jwt 문자열에서 16 byte digest로 변경
+-- digest = SHA-256(token)의 앞 16 byte (TokenDigest.of(token).toUuid()와 동일)
+-- ddl-auto: create-drop 환경에서는 필요 없으며, 기존 데이터를 유지하는 DB에서 한 번 실행
+-- expires_at이 비어 있으면 만료 정리 대상도, 기동 시 폐기 인덱스 로딩 대상도 아니므로
+-- jwt 문자열을 지우기 전에 payload의 exp 클레임으로 채움
+-- expires_at 컬럼이 아직 없다면 먼저 추가 : ALTER TABLE token ADD COLUMN expires_at DATETIME(6) NULL;
+--                                           ALTER TABLE blacklist ADD COLUMN expires_at DATETIME(6) NULL;
+
+-- token
+ALTER TABLE token ADD COLUMN token_digest BINARY(16) NULL;
+UPDATE token SET token_digest = UNHEX(LEFT(SHA2(refresh_token, 256), 32));
+-- exp = jwt payload(base64url)의 만료 시각 (초), 읽을 수 없으면 지금부터 Refresh Token 만료기한(refresh-token-expiration)
+ALTER TABLE token ADD COLUMN jwt_payload TEXT NULL;
+UPDATE token SET jwt_payload = CAST(FROM_BASE64(RPAD(
+        REPLACE(REPLACE(SUBSTRING_INDEX(SUBSTRING_INDEX(refresh_token, '.', 2), '.', -1), '-', '+'), '_', '/'),
+        CEIL(LENGTH(SUBSTRING_INDEX(SUBSTRING_INDEX(refresh_token, '.', 2), '.', -1)) / 4) * 4, '=')) AS CHAR)
+WHERE expires_at IS NULL;
+UPDATE token SET expires_at = COALESCE(
+    IF(JSON_VALID(jwt_payload), FROM_UNIXTIME(CAST(JSON_EXTRACT(jwt_payload, '$.exp') AS UNSIGNED)), NULL),
+    NOW(6) + INTERVAL 6000 SECOND)
+WHERE expires_at IS NULL;
+ALTER TABLE token DROP COLUMN jwt_payload;
+ALTER TABLE token DROP PRIMARY KEY;
+ALTER TABLE token DROP COLUMN refresh_token;
+ALTER TABLE token MODIFY token_digest BINARY(16) NOT NULL;
+ALTER TABLE token ADD PRIMARY KEY (token_digest);
+
+-- blacklist
+-- 같은 토큰이 여러 번 등록된 경우를 대비해 digest 기준으로 중복 제거
+ALTER TABLE blacklist ADD COLUMN token_digest BINARY(16) NULL;
+UPDATE blacklist SET token_digest = UNHEX(LEFT(SHA2(access_token, 256), 32));
+-- exp = jwt payload(base64url)의 만료 시각 (초), 읽을 수 없으면 지금부터 Access Token 만료기한(access-token-expiration)
+ALTER TABLE blacklist ADD COLUMN jwt_payload TEXT NULL;
+UPDATE blacklist SET jwt_payload = CAST(FROM_BASE64(RPAD(
+        REPLACE(REPLACE(SUBSTRING_INDEX(SUBSTRING_INDEX(access_token, '.', 2), '.', -1), '-', '+'), '_', '/'),
+        CEIL(LENGTH(SUBSTRING_INDEX(SUBSTRING_INDEX(access_token, '.', 2), '.', -1)) / 4) * 4, '=')) AS CHAR)
+WHERE expires_at IS NULL;
+UPDATE blacklist SET expires_at = COALESCE(
+    IF(JSON_VALID(jwt_payload), FROM_UNIXTIME(CAST(JSON_EXTRACT(jwt_payload, '$.exp') AS UNSIGNED)), NULL),
+    NOW(6) + INTERVAL 300 SECOND)
+WHERE expires_at IS NULL;
+ALTER TABLE blacklist DROP COLUMN jwt_payload;
+DELETE b1 FROM blacklist b1
+    JOIN blacklist b2 ON b1.token_digest = b2.token_digest AND b1.id > b2.id;
+ALTER TABLE blacklist DROP PRIMARY KEY;
+ALTER TABLE blacklist DROP COLUMN id;
+ALTER TABLE blacklist DROP COLUMN access_token;
+ALTER TABLE blacklist MODIFY token_digest BINARY(16) NOT NULL;
+ALTER TABLE blacklist ADD PRIMARY KEY (token_digest);
@@ -0,0 +1,78 @@
+package com.example.security.config;
+
+import com.example.security.user.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요청 권한 규칙 - encode된 path로 규칙을 우회할 수 없는지 확인
+class CompiledAuthorizationManagerTest {
+
+    private final CompiledAuthorizationManager manager = new AuthorizationConfig().requestAuthorizationManager();
+
+    private static Authentication authenticated(Role role) {
+        return UsernamePasswordAuthenticationToken.authenticated("user@mail.com", null, role.getAuthorities());
+    }
+
+    private boolean granted(Role role, String method, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, requestUri);
+        return manager.check(() -> authenticated(role), new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    @Test
+    void managementRequiresManagerRole() {
+        assertThat(granted(Role.USER, "GET", "/api/v1/management")).isFalse();
+        assertThat(granted(Role.MANAGER, "GET", "/api/v1/management")).isTrue();
+        assertThat(granted(Role.ADMIN, "GET", "/api/v1/management")).isTrue();
+    }
+
+    @Test
+    void percentEncodedSegmentsDoNotBypassRules() {
+        assertThat(granted(Role.USER, "GET", "/api/v1/m%61nagement")).isFalse();
+        assertThat(granted(Role.USER, "GET", "/api/v1/%6Danagement/users")).isFalse();
+        assertThat(granted(Role.USER, "GET", "/api/v1/%61dmin")).isFalse();
+        assertThat(granted(Role.MANAGER, "POST", "/api/v1/%61dmin")).isFalse();
+        assertThat(granted(Role.MANAGER, "GET", "/api/v1/m%61nagement")).isTrue();
+    }
+
+    @Test
+    void pathParametersAndDuplicateSlashesDoNotBypassRules() {
+        assertThat(granted(Role.USER, "GET", "/api/v1/management;x=1")).isFalse();
+        assertThat(granted(Role.USER, "GET", "/api/v1//management/")).isFalse();
+        assertThat(granted(Role.USER, "GET", "//api/v1/admin")).isFalse();
+    }
+
+    @Test
+    void contextPathIsStripped() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/v1/m%61nagement");
+        request.setContextPath("/app");
+        assertThat(manager.check(() -> authenticated(Role.USER), new RequestAuthorizationContext(request)).isGranted())
+                .isFalse();
+    }
+
+    @Test
+    void authEndpointsArePermitted() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/authenticate");
+        assertThat(manager.check(() -> null, new RequestAuthorizationContext(request)).isGranted()).isTrue();
+    }
+
+    @Test
+    void reactivePathIsDecoded() {
+        MockServerHttpRequest request = MockServerHttpRequest
+                .method(HttpMethod.GET, URI.create("/api/v1/%61dmin/users;x=1"))
+                .build();
+        String path = CompiledAuthorizationManager.pathOf(request.getPath().pathWithinApplication());
+
+        assertThat(path).isEqualTo("/api/v1/admin/users");
+        assertThat(manager.check(() -> authenticated(Role.USER), path, "GET").isGranted()).isFalse();
+        assertThat(manager.check(() -> authenticated(Role.ADMIN), path, "GET").isGranted()).isTrue();
+    }
+}
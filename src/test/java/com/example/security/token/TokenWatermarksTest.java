@@ -0,0 +1,38 @@
+package com.example.security.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 토큰 무효화 기준 - iat(초 단위)와 기준 시각 비교
+class TokenWatermarksTest {
+
+    private static final String EMAIL = "user@mail.com";
+
+    private final TokenWatermarks watermarks = new TokenWatermarks();
+
+    @Test
+    void tokenIssuedInSameSecondIsInvalidated() {
+        Instant changedAt = Instant.parse("2024-01-01T00:00:10.700Z");
+        watermarks.invalidateIssuedBefore(EMAIL, changedAt);
+
+        // jwt iat는 밀리초를 버리므로 변경 직전에 발행한 토큰도 같은 초로 보임
+        assertThat(watermarks.isIssuedBeforeWatermark(EMAIL, Date.from(Instant.parse("2024-01-01T00:00:10Z")))).isTrue();
+        assertThat(watermarks.isIssuedBeforeWatermark(EMAIL, Date.from(Instant.parse("2024-01-01T00:00:09Z")))).isTrue();
+    }
+
+    @Test
+    void tokenIssuedInLaterSecondIsValid() {
+        watermarks.invalidateIssuedBefore(EMAIL, Instant.parse("2024-01-01T00:00:10.700Z"));
+
+        assertThat(watermarks.isIssuedBeforeWatermark(EMAIL, Date.from(Instant.parse("2024-01-01T00:00:11Z")))).isFalse();
+    }
+
+    @Test
+    void userWithoutWatermarkIsValid() {
+        assertThat(watermarks.isIssuedBeforeWatermark(EMAIL, Date.from(Instant.parse("2024-01-01T00:00:10Z")))).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.security.user;
+
+import com.example.security.token.RevocationPropagator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// User update - 권한이나 비밀번호가 바뀐 경우에만 기존 토큰 무효화
+class UserCacheInvalidatorTest {
+
+    private static final String EMAIL = "user@mail.com";
+
+    private final RevocationPropagator revocationPropagator = mock(RevocationPropagator.class);
+    private final UserCacheInvalidator invalidator;
+
+    @SuppressWarnings("unchecked")
+    UserCacheInvalidatorTest() {
+        ObjectProvider<RevocationPropagator> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(revocationPropagator);
+        this.invalidator = new UserCacheInvalidator(new UserDetailsCache(new SimpleMeterRegistry(), 100, 60_000), provider);
+    }
+
+    // DB에서 읽은 상태의 User
+    private static User loaded() {
+        User user = User.builder()
+                .email(EMAIL)
+                .firstname("First")
+                .password("{bcrypt}hash")
+                .role(Role.USER)
+                .build();
+        user.markPersisted();
+        return user;
+    }
+
+    @Test
+    void profileUpdateKeepsTokens() {
+        User user = loaded();
+        user.setFirstname("Changed");
+
+        invalidator.invalidateIfCredentialsChanged(user);
+
+        verify(revocationPropagator, never()).invalidateIssuedBefore(any(), any());
+    }
+
+    @Test
+    void roleChangeInvalidatesTokens() {
+        User user = loaded();
+        user.setRole(Role.MANAGER);
+
+        invalidator.invalidateIfCredentialsChanged(user);
+
+        verify(revocationPropagator).invalidateIssuedBefore(eq(EMAIL), any(Instant.class));
+    }
+
+    @Test
+    void passwordChangeInvalidatesTokens() {
+        User user = loaded();
+        user.setPassword("{bcrypt}other");
+
+        invalidator.invalidateIfCredentialsChanged(user);
+
+        verify(revocationPropagator).invalidateIssuedBefore(eq(EMAIL), any(Instant.class));
+    }
+}